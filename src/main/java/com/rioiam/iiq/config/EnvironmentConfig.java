@@ -13,9 +13,13 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Environment Configuration Manager
@@ -86,7 +90,8 @@ public class EnvironmentConfig {
     
     private Properties iiqProperties;
     private Map<String, String> databaseInfo;
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
+    private final CountDownLatch readyLatch = new CountDownLatch(1);
     
     @PostConstruct
     public void init() {
@@ -109,6 +114,7 @@ public class EnvironmentConfig {
         validateEnvironment();
         
         initialized = true;
+        readyLatch.countDown();
         
         // Print environment summary
         printEnvironmentSummary();
@@ -352,6 +358,17 @@ public class EnvironmentConfig {
         return initialized;
     }
     
+    /**
+     * Wait until the environment configuration has been loaded.
+     *
+     * @param timeout Maximum time to wait
+     * @param unit Time unit of the timeout
+     * @return true if ready, false if the timeout elapsed first
+     */
+    public boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        return readyLatch.await(timeout, unit);
+    }
+    
     /**
      * Get environment display name
      */
@@ -385,6 +402,34 @@ public class EnvironmentConfig {
         return 3; // Default
     }
     
+    /**
+     * Should workflow/rule/form warmup run at context start (based on environment)
+     */
+    public boolean isWarmupEnabled() {
+        // Never prime production servers from the test framework
+        if (isProduction()) {
+            return false;
+        }
+        return Boolean.parseBoolean(springEnvironment.getProperty("warmup.enabled", "false"));
+    }
+    
+    /**
+     * Get the names of objects to warm up for a type (warmup.workflows, warmup.rules, warmup.forms)
+     *
+     * @param type "workflows", "rules" or "forms"
+     * @return Configured names, empty if none
+     */
+    public List<String> getWarmupNames(String type) {
+        List<String> names = new ArrayList<>();
+        String value = springEnvironment.getProperty("warmup." + type, "");
+        for (String name : value.split(",")) {
+            if (!name.trim().isEmpty()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+    
     // ===== Utility Methods =====
     
     /**
@@ -0,0 +1,189 @@
+package com.rioiam.iiq.context;
+
+import com.rioiam.iiq.context.SailPointContextPool.ContextLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.tools.GeneralException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Executor behind the asynchronous (CompletableFuture) service API.
+ *
+ * Every task runs with its own leased SailPointContext bound to the executing
+ * thread, so service methods that call IIQRemoteContext.getContext() work unchanged
+ * and tasks never share a Hibernate session.
+ *
+ * Executor types (iiq.async.executor):
+ * - virtual: one virtual thread per task when the JVM provides them (Java 21+),
+ *   otherwise falls back to the fixed pool
+ * - fixed: fixed pool of iiq.async.poolSize daemon threads
+ *
+ * Concurrency against IIQ is still bounded by the context pool size; tasks wait up to
+ * iiq.async.leaseTimeoutMillis for a free context. Futures compose with the standard
+ * CompletableFuture API, e.g. orTimeout() for deadlines.
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class AsyncContextExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncContextExecutor.class);
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Value("${iiq.async.executor:virtual}")
+    private String executorType;
+
+    @Value("${iiq.async.poolSize:32}")
+    private int poolSize;
+
+    @Value("${iiq.async.leaseTimeoutMillis:300000}")
+    private long leaseTimeoutMillis;
+
+    private ExecutorService executor;
+    private String activeExecutorType;
+
+    // Statistics
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicInteger running = new AtomicInteger();
+
+    @PostConstruct
+    public void initialize() {
+        executor = createExecutor();
+        logger.info("✓ Async executor ready: {}", activeExecutorType);
+    }
+
+    /**
+     * Run a task asynchronously with a leased context bound to its thread.
+     * The task may call any service method; they all see the leased context.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        submitted.increment();
+        return CompletableFuture.supplyAsync(() -> {
+            running.incrementAndGet();
+            try (ContextLease lease = remoteContext.leaseContext(leaseTimeoutMillis)) {
+                return task.get();
+            } catch (GeneralException e) {
+                throw new CompletionException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }, executor).whenComplete((result, error) -> {
+            if (error == null) {
+                succeeded.increment();
+            } else {
+                failed.increment();
+                logger.warn("⚠ Async task failed: {}", error.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Run a context operation asynchronously on a leased context (no transaction handling)
+     */
+    public <T> CompletableFuture<T> submit(IIQRemoteContext.ContextOperation<T> operation) {
+        return supplyAsync(() -> {
+            try {
+                return operation.execute(remoteContext.getContext());
+            } catch (GeneralException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Run a task asynchronously, failing the future with a TimeoutException after the given time
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task, long timeout, TimeUnit unit) {
+        return supplyAsync(task).orTimeout(timeout, unit);
+    }
+
+    /**
+     * Combine futures into one future of all results, in the order given
+     */
+    public static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> {
+                List<T> results = new ArrayList<>(futures.size());
+                for (CompletableFuture<T> future : futures) {
+                    results.add(future.join());
+                }
+                return results;
+            });
+    }
+
+    /**
+     * Get executor statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executor", activeExecutorType);
+        stats.put("submitted", submitted.sum());
+        stats.put("succeeded", succeeded.sum());
+        stats.put("failed", failed.sum());
+        stats.put("running", running.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            logger.info("Async executor shut down ({} tasks submitted)", submitted.sum());
+        }
+    }
+
+    // ===== Helper Methods =====
+
+    private ExecutorService createExecutor() {
+        if ("virtual".equalsIgnoreCase(executorType)) {
+            try {
+                // Looked up reflectively so the framework still builds and runs on Java 17
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                ExecutorService virtualExecutor = (ExecutorService) factory.invoke(null);
+                activeExecutorType = "virtual";
+                return virtualExecutor;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.info("Virtual threads not available on Java {}, using fixed pool of {} threads",
+                    System.getProperty("java.version"), poolSize);
+            }
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        activeExecutorType = "fixed(" + poolSize + ")";
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "iiq-async-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
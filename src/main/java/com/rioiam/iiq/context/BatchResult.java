@@ -0,0 +1,169 @@
+package com.rioiam.iiq.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of IIQRemoteContext.executeBatch().
+ *
+ * Holds one ItemResult per submitted operation, in submission order, so callers
+ * can see exactly which items were committed and which failed without the
+ * whole batch being aborted.
+ *
+ * @param <T> Operation result type
+ * @author RIOIAM Framework
+ */
+public class BatchResult<T> {
+
+    private final List<ItemResult<T>> items;
+    private final int commits;
+    private final long durationMillis;
+
+    BatchResult(List<ItemResult<T>> items, int commits, long durationMillis) {
+        this.items = Collections.unmodifiableList(items);
+        this.commits = commits;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Per-item outcomes, in submission order
+     */
+    public List<ItemResult<T>> getItems() {
+        return items;
+    }
+
+    /**
+     * Results of the items that were committed, in submission order
+     */
+    public List<T> getResults() {
+        List<T> results = new ArrayList<>();
+        for (ItemResult<T> item : items) {
+            if (item.isSuccess()) {
+                results.add(item.getResult());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Items that failed
+     */
+    public List<ItemResult<T>> getFailures() {
+        List<ItemResult<T>> failures = new ArrayList<>();
+        for (ItemResult<T> item : items) {
+            if (!item.isSuccess()) {
+                failures.add(item);
+            }
+        }
+        return failures;
+    }
+
+    public int getTotalCount() {
+        return items.size();
+    }
+
+    public int getSuccessCount() {
+        int count = 0;
+        for (ItemResult<T> item : items) {
+            if (item.isSuccess()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getFailureCount() {
+        return items.size() - getSuccessCount();
+    }
+
+    public boolean isAllSuccessful() {
+        return getFailureCount() == 0;
+    }
+
+    /**
+     * Number of transactions committed (or rolled back in rollback mode)
+     */
+    public int getCommits() {
+        return commits;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Summary suitable for statistics output
+     */
+    public Map<String, Object> getSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", getTotalCount());
+        summary.put("succeeded", getSuccessCount());
+        summary.put("failed", getFailureCount());
+        summary.put("commits", commits);
+        summary.put("durationMs", durationMillis);
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchResult[total=%d, succeeded=%d, failed=%d, commits=%d, duration=%dms]",
+            getTotalCount(), getSuccessCount(), getFailureCount(), commits, durationMillis);
+    }
+
+    /**
+     * Outcome of a single operation in a batch
+     *
+     * @param <T> Operation result type
+     */
+    public static final class ItemResult<T> {
+        private final int index;
+        private boolean success;
+        private T result;
+        private Exception error;
+
+        ItemResult(int index) {
+            this.index = index;
+        }
+
+        void succeeded(T result) {
+            this.success = true;
+            this.result = result;
+            this.error = null;
+        }
+
+        void failed(Exception error) {
+            this.success = false;
+            this.result = null;
+            this.error = error;
+        }
+
+        /**
+         * Position of the operation in the submitted batch (0-based)
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public T getResult() {
+            return result;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return success
+                ? String.format("Item[%d: OK]", index)
+                : String.format("Item[%d: FAILED - %s]", index, error != null ? error.getMessage() : "unknown");
+        }
+    }
+}
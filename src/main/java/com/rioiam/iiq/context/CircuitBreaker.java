@@ -0,0 +1,164 @@
+package com.rioiam.iiq.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker guarding access to the IIQ backend.
+ *
+ * - CLOSED: requests pass; consecutive failures are counted
+ * - OPEN: entered after failureThreshold consecutive failures; requests fail fast
+ * - HALF_OPEN: after openMillis a single trial request is allowed; a success closes the
+ *   circuit, a failure opens it again. A trial that reports neither within openMillis
+ *   (e.g. a call that does not record its outcome) is replaced by a new one.
+ *
+ * @author RIOIAM Framework
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private boolean trialInFlight;
+    private long trialStartedAt;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong tripCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * @param name Name used in log messages
+     * @param failureThreshold Consecutive failures that open the circuit
+     * @param openMillis Time the circuit stays open before a trial is allowed
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Check whether a request may proceed.
+     * An open circuit moves to HALF_OPEN once openMillis has elapsed; in HALF_OPEN only
+     * one trial request is let through until it records its outcome.
+     */
+    public boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN && now - openedAt >= openMillis) {
+                transition(State.HALF_OPEN);
+                startTrial(now);
+                return true;
+            }
+            if (state == State.HALF_OPEN && (!trialInFlight || now - trialStartedAt >= openMillis)) {
+                startTrial(now);
+                return true;
+            }
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            synchronized (this) {
+                trialInFlight = false;
+                if (state != State.CLOSED) {
+                    transition(State.CLOSED);
+                }
+            }
+        }
+    }
+
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state;
+        if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+            synchronized (this) {
+                trialInFlight = false;
+                if (state != State.OPEN) {
+                    openedAt = System.currentTimeMillis();
+                    tripCount.incrementAndGet();
+                    transition(State.OPEN);
+                }
+            }
+        }
+    }
+
+    /**
+     * Force the circuit open, e.g. when a health check finds the backend down
+     */
+    public synchronized void trip() {
+        openedAt = System.currentTimeMillis();
+        if (state != State.OPEN) {
+            tripCount.incrementAndGet();
+            transition(State.OPEN);
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * Get circuit breaker statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.toString());
+        stats.put("consecutiveFailures", consecutiveFailures.get());
+        stats.put("failureThreshold", failureThreshold);
+        stats.put("trips", tripCount.get());
+        stats.put("rejected", rejectedCount.get());
+        if (state != State.CLOSED) {
+            stats.put("openedAt", new Date(openedAt));
+        }
+        return stats;
+    }
+
+    // ===== Helper Methods =====
+
+    private void startTrial(long now) {
+        trialInFlight = true;
+        trialStartedAt = now;
+    }
+
+    private void transition(State next) {
+        State previous = state;
+        state = next;
+        if (next == State.CLOSED) {
+            logger.info("✓ Circuit '{}' {} -> CLOSED", name, previous);
+        } else {
+            logger.warn("⚠ Circuit '{}' {} -> {}", name, previous, next);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.rioiam.iiq.context;
+
+import com.rioiam.iiq.context.SailPointContextPool.ContextLease;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background health watchdog for IIQRemoteContext.
+ *
+ * On a fixed schedule it runs a cheap validation query (SELECT 1) over the JDBC
+ * connection of a pooled SailPointContext:
+ * - A failed check counts against the circuit breaker, so callers fail fast
+ *   once the backend is considered down
+ * - After reconnectThreshold consecutive failures the primary and pooled contexts
+ *   are rebuilt; a successful check afterwards closes the circuit again
+ * - If every pooled context is busy the check is skipped (the backend is evidently in use)
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class ContextHealthMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContextHealthMonitor.class);
+
+    public enum Health {
+        UNKNOWN, HEALTHY, DEGRADED, DOWN
+    }
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Value("${iiq.context.health.enabled:true}")
+    private boolean enabled;
+
+    @Value("${iiq.context.health.intervalMillis:15000}")
+    private long intervalMillis;
+
+    @Value("${iiq.context.health.queryTimeoutSeconds:5}")
+    private int queryTimeoutSeconds;
+
+    @Value("${iiq.context.health.reconnectThreshold:2}")
+    private int reconnectThreshold;
+
+    @Value("${db.pool.validation.query:SELECT 1}")
+    private String validationQuery;
+
+    private ScheduledExecutorService scheduler;
+
+    private volatile Health health = Health.UNKNOWN;
+    private volatile Date lastCheck;
+    private volatile Date lastSuccess;
+    private volatile String lastError;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    // Statistics
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder reconnectFailures = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            logger.info("Context health monitor disabled");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "iiq-health-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runCheck, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("✓ Context health monitor started (every {} ms)", intervalMillis);
+    }
+
+    /**
+     * Run one health check now (also used by the scheduler).
+     *
+     * @return Health after the check
+     */
+    public synchronized Health checkNow() {
+        if (!remoteContext.isInitialized()) {
+            return health;
+        }
+
+        lastCheck = new Date();
+        Boolean healthy = probe();
+        if (healthy == null) {
+            skipped.increment();
+            return health;
+        }
+        checks.increment();
+
+        if (healthy) {
+            onSuccess();
+            return health;
+        }
+
+        failures.increment();
+        remoteContext.getCircuitBreaker().recordFailure();
+        int failed = consecutiveFailures.incrementAndGet();
+        health = remoteContext.getCircuitBreaker().isOpen() ? Health.DOWN : Health.DEGRADED;
+        logger.warn("⚠ Health check failed ({} consecutive): {}", failed, lastError);
+
+        if (failed >= reconnectThreshold) {
+            tryReconnect();
+        }
+        return health;
+    }
+
+    public Health getHealth() {
+        return health;
+    }
+
+    public long getReconnectCount() {
+        return remoteContext.getReconnectCount();
+    }
+
+    /**
+     * Get health state, check counts and reconnect counts
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("health", health.toString());
+        stats.put("lastCheck", lastCheck);
+        stats.put("lastSuccess", lastSuccess);
+        stats.put("lastError", lastError);
+        stats.put("consecutiveFailures", consecutiveFailures.get());
+        stats.put("checks", checks.sum());
+        stats.put("failures", failures.sum());
+        stats.put("skipped", skipped.sum());
+        stats.put("reconnects", remoteContext.getReconnectCount());
+        stats.put("reconnectFailures", reconnectFailures.sum());
+        stats.put("circuitBreaker", remoteContext.getCircuitBreaker() != null
+            ? remoteContext.getCircuitBreaker().getStatistics() : null);
+        return stats;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            logger.info("Context health monitor stopped ({} checks, {} reconnects)",
+                checks.sum(), remoteContext.getReconnectCount());
+        }
+    }
+
+    // ===== Helper Methods =====
+
+    private void runCheck() {
+        try {
+            checkNow();
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the schedule
+            logger.error("Unexpected error in health check", e);
+        }
+    }
+
+    /**
+     * Run the validation query on a pooled context
+     *
+     * @return true if healthy, false if the query failed, null if no context was free
+     */
+    private Boolean probe() {
+        ContextLease lease = null;
+        try {
+            lease = remoteContext.getContextPool().tryLease();
+            if (lease == null) {
+                logger.debug("Health check skipped - all pooled contexts are busy");
+                return null;
+            }
+
+            // The connection belongs to the context's session and must not be closed here
+            Connection connection = lease.getContext().getJdbcConnection();
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(queryTimeoutSeconds);
+                statement.execute(validationQuery);
+            }
+            return true;
+
+        } catch (Exception e) {
+            lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (lease != null) {
+                lease.invalidate();
+            }
+            return false;
+        } finally {
+            if (lease != null) {
+                lease.close();
+            }
+        }
+    }
+
+    private void onSuccess() {
+        if (health != Health.HEALTHY && health != Health.UNKNOWN) {
+            logger.info("✓ IIQ backend healthy again after {} failed checks", consecutiveFailures.get());
+        }
+        consecutiveFailures.set(0);
+        lastSuccess = new Date();
+        lastError = null;
+        health = Health.HEALTHY;
+        remoteContext.getCircuitBreaker().recordSuccess();
+    }
+
+    private void tryReconnect() {
+        try {
+            remoteContext.reconnect();
+            Boolean healthy = probe();
+            if (Boolean.TRUE.equals(healthy)) {
+                onSuccess();
+            } else {
+                reconnectFailures.increment();
+                logger.warn("⚠ Reconnected but backend still unhealthy: {}", lastError);
+            }
+        } catch (Exception e) {
+            reconnectFailures.increment();
+            lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            logger.warn("⚠ Reconnect failed: {}", lastError);
+        }
+    }
+}
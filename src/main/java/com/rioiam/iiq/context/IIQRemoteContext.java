@@ -1,9 +1,12 @@
 package com.rioiam.iiq.context;
 
 import com.rioiam.iiq.config.EnvironmentConfig;
+import com.rioiam.iiq.context.SailPointContextPool.ContextLease;
+import com.rioiam.iiq.metrics.OperationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import sailpoint.api.SailPointContext;
 import sailpoint.api.SailPointFactory;
@@ -17,7 +20,14 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -27,7 +37,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * This class provides:
  * - Remote IIQ context initialization
  * - Connection pooling and management
- * - Thread-safe context operations
+ * - Thread-safe context operations (pooled, per-thread contexts via leaseContext())
  * - Automatic cleanup
  * 
  * @author RIOIAM Framework
@@ -40,24 +50,90 @@ public class IIQRemoteContext {
     @Autowired
     private EnvironmentConfig environmentConfig;
     
+    @Value("${iiq.context.pool.size:8}")
+    private int contextPoolSize;
+    
+    @Value("${iiq.context.pool.leaseTimeoutMillis:30000}")
+    private long contextLeaseTimeoutMillis;
+    
+    @Value("${iiq.context.pool.backgroundSize:2}")
+    private int backgroundPoolSize;
+    
+    @Value("${iiq.context.initialize.timeout:60000}")
+    private long initializeTimeoutMillis;
+    
+    @Value("${iiq.context.validation.enabled:true}")
+    private boolean validationEnabled;
+    
+    @Value("${iiq.context.health.failureThreshold:3}")
+    private int circuitFailureThreshold;
+    
+    @Value("${iiq.context.health.openMillis:30000}")
+    private long circuitOpenMillis;
+    
+    @Value("${iiq.context.batch.size:500}")
+    private int batchSize;
+    
+    @Value("${iiq.context.batch.commitIntervalMillis:5000}")
+    private long batchCommitIntervalMillis;
+    
+    @Value("${iiq.context.paging.pageSize:500}")
+    private int pageSize;
+    
+    @Value("${iiq.context.paging.decacheInterval:1000}")
+    private int decacheInterval;
+    
+    @Value("${iiq.context.projection.batchSize:500}")
+    private int projectionBatchSize;
+    
     private SailPointContext context;
+    private volatile int contextGeneration = 0;
+    private final ThreadLocal<Integer> primaryBinding = new ThreadLocal<>();
+    private SailPointContextPool contextPool;
+    private SailPointContextPool backgroundPool;
     private SpringStarter starter;
     private Properties iiqProperties;
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
     private final ReentrantLock contextLock = new ReentrantLock();
     
-    // Cache for frequently accessed objects
-    private final Map<String, Identity> identityCache = new ConcurrentHashMap<>();
-    private final Map<String, Application> applicationCache = new ConcurrentHashMap<>();
-    private final Map<String, TaskDefinition> taskCache = new ConcurrentHashMap<>();
+    @Value("${iiq.context.cache.enabled:true}")
+    private boolean cacheEnabled;
+    
+    @Value("${iiq.context.cache.maxSize:1000}")
+    private int cacheMaxSize;
+    
+    @Value("${iiq.context.cache.ttlSeconds:300}")
+    private long cacheTtlSeconds;
+    
+    // Cache for frequently accessed objects (Identity, Application, TaskDefinition)
+    private ObjectCache objectCache;
+    
+    // Bootstrap
+    private final Map<String, Long> bootstrapTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile CompletableFuture<Boolean> validationFuture = CompletableFuture.completedFuture(Boolean.FALSE);
+    private volatile String validationStatus = "PENDING";
+    
+    // Backend health
+    private CircuitBreaker circuitBreaker;
+    private final LongAdder reconnectCount = new LongAdder();
     
     // Statistics
     private long contextCreationTime;
-    private int operationCount = 0;
-    private final Map<String, Integer> operationStats = new HashMap<>();
+    private final LongAdder operationCount = new LongAdder();
+    private final OperationMetrics operationMetrics = new OperationMetrics();
     
     /**
-     * Initialize IIQ context after Spring context is ready
+     * Initialize IIQ context after Spring context is ready.
+     *
+     * Bootstrap pipeline:
+     * 1. Wait for EnvironmentConfig readiness signal
+     * 2. Load properties
+     * 3. Start Spring Starter while the database probe runs in the background
+     * 4. Create the primary context and the context pool
+     * 5. Warm caches on the primary context while validation runs on a pooled context;
+     *    validation is non-critical and completes lazily in the background
+     *
+     * Per-phase timings are published through getStatistics().
      */
     @PostConstruct
     public void initialize() {
@@ -65,39 +141,68 @@ public class IIQRemoteContext {
         logger.info("Initializing IIQ Remote Context");
         logger.info("========================================");
         
+        circuitBreaker = new CircuitBreaker("iiq-backend", circuitFailureThreshold, circuitOpenMillis);
+        ExecutorService bootstrapExecutor = Executors.newFixedThreadPool(3, bootstrapThreadFactory());
+        
         try {
-            // Wait for environment config to be ready
-            if (!environmentConfig.isInitialized()) {
-                logger.info("Waiting for environment configuration...");
-                Thread.sleep(1000);
-            }
-            
             long startTime = System.currentTimeMillis();
             
+            // Wait for environment config to be ready
+            timePhase("environment", this::awaitEnvironment);
+            
             // Initialize IIQ properties
-            initializeProperties();
+            timePhase("properties", this::initializeProperties);
+            
+            // Probe the database in parallel with Spring Starter (independent of IIQ)
+            CompletableFuture<Void> databaseProbe = CompletableFuture.runAsync(
+                () -> timePhase("databaseProbe", this::testDatabaseConnection), bootstrapExecutor);
             
             // Initialize Spring Starter
-            initializeSpringStarter();
+            timePhase("springStarter", this::initializeSpringStarter);
             
             // Create SailPoint Context
-            createContext();
+            timePhase("createContext", this::createContext);
+            
+            // Create pool for per-thread contexts
+            timePhase("contextPool", this::initializeContextPool);
             
-            // Validate context
-            validateContext();
+            objectCache = new ObjectCache(cacheMaxSize, cacheTtlSeconds);
             
-            // Initialize caches
-            initializeCaches();
+            // Validate in the background on a pooled context
+            validationFuture = validationEnabled
+                ? CompletableFuture.supplyAsync(this::runValidation, bootstrapExecutor)
+                    .thenCombine(databaseProbe, (valid, ignored) -> valid)
+                : CompletableFuture.completedFuture(Boolean.TRUE);
+            validationFuture.whenComplete((valid, error) -> bootstrapExecutor.shutdown());
+            
+            // Warm caches meanwhile on the primary context: pooled contexts are decached when
+            // returned, which would leave the cached objects detached for every later caller
+            timePhase("cacheWarmup", () -> initializeCaches(context));
             
             contextCreationTime = System.currentTimeMillis() - startTime;
             initialized = true;
             
             logger.info("✓ IIQ Remote Context initialized successfully in {} ms", contextCreationTime);
+            logger.debug("Bootstrap phases (validation may still be running): {}", getBootstrapTimings());
             printContextSummary();
             
         } catch (Exception e) {
-            logger.error("Failed to initialize IIQ Remote Context", e);
-            throw new RuntimeException("Failed to initialize IIQ Remote Context: " + e.getMessage(), e);
+            bootstrapExecutor.shutdownNow();
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.error("Failed to initialize IIQ Remote Context", cause);
+            throw new RuntimeException("Failed to initialize IIQ Remote Context: " + cause.getMessage(), cause);
+        }
+    }
+    
+    /**
+     * Wait for the environment configuration readiness signal
+     */
+    private void awaitEnvironment() throws Exception {
+        if (!environmentConfig.isInitialized()) {
+            logger.info("Waiting for environment configuration...");
+            if (!environmentConfig.awaitReady(initializeTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Environment configuration not ready after " + initializeTimeoutMillis + " ms");
+            }
         }
     }
     
@@ -158,6 +263,7 @@ public class IIQRemoteContext {
             if (context == null) {
                 throw new GeneralException("Failed to create SailPoint Context - null returned");
             }
+            primaryBinding.set(contextGeneration);
             
             // Set debug logging if in development
             if (environmentConfig.isDevelopment()) {
@@ -175,41 +281,67 @@ public class IIQRemoteContext {
         }
     }
     
+    /**
+     * Initialize the pool of per-thread contexts
+     */
+    private void initializeContextPool() {
+        logger.info("Initializing context pool (size: {})...", contextPoolSize);
+        
+        // When a pooled lease ends on a thread that had the primary context bound, re-bind the primary
+        contextPool = new SailPointContextPool(contextPoolSize, contextLeaseTimeoutMillis,
+            () -> isPrimaryBound() ? context : null);
+        
+        // Reserved for shared background pollers, so tasks holding leases while they wait on them cannot starve them
+        backgroundPool = new SailPointContextPool(backgroundPoolSize, contextLeaseTimeoutMillis,
+            () -> isPrimaryBound() ? context : null);
+        
+        logger.info("✓ Context pool ready");
+    }
+    
+    /**
+     * Run background validation on a pooled context
+     *
+     * @return true if validation passed, false if it failed
+     */
+    private boolean runValidation() {
+        try {
+            timePhase("validation", () -> runOnPooledContext(this::validateContext));
+            validationStatus = "PASSED";
+            return true;
+        } catch (RuntimeException e) {
+            validationStatus = "FAILED";
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.warn("⚠ Background context validation failed: {}", cause.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Validate context by performing test operations
      */
-    private void validateContext() throws GeneralException {
+    private void validateContext(SailPointContext ctx) throws GeneralException {
         logger.info("Validating SailPoint Context...");
         
-        contextLock.lock();
-        try {
-            // Test 1: Check database connectivity
-            testDatabaseConnection();
-            
-            // Test 2: Load system configuration
-            Configuration systemConfig = context.getConfiguration();
-            if (systemConfig == null) {
-                logger.warn("⚠ System configuration not found - may need to import init.xml");
-            } else {
-                logger.info("✓ System configuration loaded: {}", systemConfig.getName());
-            }
-            
-            // Test 3: Count identities
-            QueryOptions qo = new QueryOptions();
-            qo.setResultLimit(1);
-            int identityCount = context.countObjects(Identity.class, qo);
-            logger.info("✓ Found {} identities in the system", identityCount);
-            
-            // Test 4: Check for spadmin
-            Identity spadmin = context.getObjectByName(Identity.class, "spadmin");
-            if (spadmin != null) {
-                logger.info("✓ Administrator account found: {}", spadmin.getName());
-            } else {
-                logger.warn("⚠ Administrator account 'spadmin' not found");
-            }
-            
-        } finally {
-            contextLock.unlock();
+        // Test 1: Load system configuration
+        Configuration systemConfig = ctx.getConfiguration();
+        if (systemConfig == null) {
+            logger.warn("⚠ System configuration not found - may need to import init.xml");
+        } else {
+            logger.info("✓ System configuration loaded: {}", systemConfig.getName());
+        }
+        
+        // Test 2: Count identities
+        QueryOptions qo = new QueryOptions();
+        qo.setResultLimit(1);
+        int identityCount = ctx.countObjects(Identity.class, qo);
+        logger.info("✓ Found {} identities in the system", identityCount);
+        
+        // Test 3: Check for spadmin
+        Identity spadmin = ctx.getObjectByName(Identity.class, "spadmin");
+        if (spadmin != null) {
+            logger.info("✓ Administrator account found: {}", spadmin.getName());
+        } else {
+            logger.warn("⚠ Administrator account 'spadmin' not found");
         }
     }
     
@@ -235,27 +367,27 @@ public class IIQRemoteContext {
     /**
      * Initialize object caches for performance
      */
-    private void initializeCaches() {
+    private void initializeCaches(SailPointContext ctx) {
         logger.info("Initializing object caches...");
         
-        if (environmentConfig.isDevelopment() || environmentConfig.isTest()) {
+        if (cacheEnabled && (environmentConfig.isDevelopment() || environmentConfig.isTest())) {
             // Preload common objects in dev/test environments
             try {
                 // Cache common applications
                 QueryOptions qo = new QueryOptions();
                 qo.setResultLimit(10);
-                List<Application> apps = context.getObjects(Application.class, qo);
+                List<Application> apps = ctx.getObjects(Application.class, qo);
                 for (Application app : apps) {
-                    applicationCache.put(app.getName(), app);
+                    objectCache.put(Application.class, app.getName(), app);
                 }
-                logger.debug("Cached {} applications", applicationCache.size());
+                logger.debug("Cached {} applications", objectCache.size(Application.class));
                 
                 // Cache task definitions
-                List<TaskDefinition> tasks = context.getObjects(TaskDefinition.class, qo);
+                List<TaskDefinition> tasks = ctx.getObjects(TaskDefinition.class, qo);
                 for (TaskDefinition task : tasks) {
-                    taskCache.put(task.getName(), task);
+                    objectCache.put(TaskDefinition.class, task.getName(), task);
                 }
-                logger.debug("Cached {} task definitions", taskCache.size());
+                logger.debug("Cached {} task definitions", objectCache.size(TaskDefinition.class));
                 
             } catch (GeneralException e) {
                 logger.warn("Could not initialize caches: {}", e.getMessage());
@@ -281,23 +413,87 @@ public class IIQRemoteContext {
             environmentConfig.getDatabaseUsername() + "@" + extractHost(environmentConfig.getDatabaseUrl()),
             contextCreationTime,
             environmentConfig.isDevelopment() ? "ENABLED" : "DISABLED",
-            !applicationCache.isEmpty() ? "ENABLED (" + applicationCache.size() + " apps)" : "DISABLED"
+            cacheEnabled ? "ENABLED (max " + cacheMaxSize + ", " + objectCache.size(Application.class) + " apps)" : "DISABLED"
         );
     }
     
     // ===== Public API Methods =====
     
     /**
-     * Get the SailPoint Context
+     * Get the SailPoint Context.
+     * Returns the calling thread's leased context if it holds one, otherwise the shared primary context.
      */
     public SailPointContext getContext() {
-        if (!initialized) {
-            throw new IllegalStateException("IIQ Context not initialized");
+        assertAvailable();
+        operationCount.increment();
+        ContextLease lease = currentLease();
+        if (lease != null) {
+            return lease.getContext();
+        }
+        // After a reconnect, threads still bound to the old primary context are re-bound lazily
+        if (contextGeneration > 0 && !isPrimaryBound()) {
+            SailPointFactory.setContext(context);
+            primaryBinding.set(contextGeneration);
         }
-        operationCount++;
         return context;
     }
     
+    /**
+     * Lease a dedicated context for the calling thread.
+     * While the lease is held, getContext() and execute() on this thread use the leased context,
+     * so services such as WorkflowExecutor, WorkItemHandler and IdentityService can run in parallel.
+     *
+     * Usage:
+     * <pre>
+     * try (ContextLease lease = remoteContext.leaseContext()) {
+     *     workflowExecutor.launchWorkflow(...);
+     * }
+     * </pre>
+     */
+    public ContextLease leaseContext() throws GeneralException {
+        assertAvailable();
+        return contextPool.lease();
+    }
+    
+    /**
+     * Lease a dedicated context, waiting at most timeoutMillis for one to become free
+     */
+    public ContextLease leaseContext(long timeoutMillis) throws GeneralException {
+        assertAvailable();
+        return contextPool.lease(timeoutMillis);
+    }
+    
+    /**
+     * Run an operation on a leased context (no transaction handling).
+     * The context is returned to the pool when the operation completes.
+     */
+    public <T> T withPooledContext(ContextOperation<T> operation) throws GeneralException {
+        try (ContextLease lease = leaseContext()) {
+            return operation.execute(lease.getContext());
+        }
+    }
+    
+    /**
+     * Run an operation on a context from the reserved background pool (no transaction handling).
+     *
+     * For shared background loops (status poller, work item dispatcher) that callers wait on
+     * while holding leases from the main pool: with their own contexts they keep running even
+     * when every main pool context is leased. Size: iiq.context.pool.backgroundSize.
+     */
+    public <T> T withBackgroundContext(ContextOperation<T> operation) throws GeneralException {
+        assertAvailable();
+        try (ContextLease lease = backgroundPool.lease()) {
+            return operation.execute(lease.getContext());
+        }
+    }
+    
+    /**
+     * Get the context pool
+     */
+    public SailPointContextPool getContextPool() {
+        return contextPool;
+    }
+    
     /**
      * Execute operation with context (auto-handles transactions)
      */
@@ -311,89 +507,377 @@ public class IIQRemoteContext {
      * @param autoCommit Whether to auto-commit
      */
     public <T> T execute(ContextOperation<T> operation, boolean autoCommit) throws GeneralException {
-        if (!initialized) {
-            throw new IllegalStateException("IIQ Context not initialized");
-        }
+        assertAvailable();
         
-        contextLock.lock();
+        long start = System.nanoTime();
+        boolean success = false;
+        
+        // A leased context belongs to this thread alone, so only the shared context needs the lock
+        ContextLease lease = currentLease();
+        SailPointContext ctx = lease != null ? lease.getContext() : context;
+        if (lease == null) {
+            contextLock.lock();
+        }
         try {
-            context.startTransaction();
+            ctx.startTransaction();
             
-            T result = operation.execute(context);
+            T result = operation.execute(ctx);
             
             if (autoCommit && !environmentConfig.shouldRollbackTransactions()) {
-                context.commitTransaction();
-                context.decache();
+                ctx.commitTransaction();
+                ctx.decache();
             } else {
-                context.rollbackTransaction();
+                ctx.rollbackTransaction();
             }
             
-            trackOperation(operation.getClass().getSimpleName());
+            success = true;
+            // Failures are only counted while consecutive; a success resets them (and closes a half-open circuit)
+            circuitBreaker.recordSuccess();
             return result;
             
         } catch (Exception e) {
-            context.rollbackTransaction();
+            if (isConnectionFailure(e)) {
+                circuitBreaker.recordFailure();
+            }
+            ctx.rollbackTransaction();
             throw new GeneralException("Operation failed: " + e.getMessage(), e);
         } finally {
-            contextLock.unlock();
+            if (lease == null) {
+                contextLock.unlock();
+            }
+            operationMetrics.record("execute", start, success);
         }
     }
     
     /**
-     * Get Identity by name (with caching)
+     * Execute operations in batched transactions using the configured batch size
+     * (iiq.context.batch.size) and commit interval (iiq.context.batch.commitIntervalMillis).
+     * A Stream can be passed as stream::iterator.
      */
-    public Identity getIdentity(String name) throws GeneralException {
-        if (identityCache.containsKey(name)) {
-            return identityCache.get(name);
+    public <T> BatchResult<T> executeBatch(Iterable<? extends ContextOperation<T>> operations) {
+        return executeBatch(operations, batchSize, batchCommitIntervalMillis);
+    }
+    
+    /**
+     * Execute operations in batched transactions.
+     *
+     * - A transaction is committed every batchSize operations or every commitIntervalMillis,
+     *   whichever comes first, and the context is decached after each chunk so the
+     *   Hibernate session stays bounded
+     * - A failing operation does not abort the batch: the chunk is rolled back, the item
+     *   is recorded as failed and the chunk's earlier operations are replayed, so
+     *   operations must be safe to run again after a rollback
+     * - In rollback mode (environment config) chunks are rolled back instead of committed
+     *
+     * @param operations Operations to run, consumed lazily in order
+     * @param batchSize Maximum operations per transaction
+     * @param commitIntervalMillis Maximum time a transaction stays open (0 = no limit)
+     * @return Per-item outcomes
+     */
+    public <T> BatchResult<T> executeBatch(Iterable<? extends ContextOperation<T>> operations,
+                                           int batchSize, long commitIntervalMillis) {
+        assertAvailable();
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
         }
         
-        Identity identity = context.getObjectByName(Identity.class, name);
-        if (identity != null && environmentConfig.isDevelopment()) {
-            identityCache.put(name, identity);
+        long start = System.nanoTime();
+        long startTime = System.currentTimeMillis();
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+        List<BatchResult.ItemResult<T>> items = new ArrayList<>();
+        List<PendingOperation<T>> pending = new ArrayList<>();
+        int commits = 0;
+        
+        ContextLease lease = currentLease();
+        SailPointContext ctx = lease != null ? lease.getContext() : context;
+        if (lease == null) {
+            contextLock.lock();
         }
-        return identity;
+        try {
+            long chunkStart = 0;
+            int index = 0;
+            
+            for (ContextOperation<T> operation : operations) {
+                BatchResult.ItemResult<T> item = new BatchResult.ItemResult<>(index++);
+                items.add(item);
+                
+                if (pending.isEmpty()) {
+                    chunkStart = System.nanoTime();
+                    startTransactionQuietly(ctx);
+                }
+                
+                try {
+                    pending.add(new PendingOperation<>(operation, item, operation.execute(ctx)));
+                } catch (Exception e) {
+                    logger.warn("⚠ Batch item {} failed: {}", item.getIndex(), e.getMessage());
+                    item.failed(e);
+                    rollbackQuietly(ctx);
+                    replayPending(ctx, pending);
+                }
+                
+                boolean chunkFull = pending.size() >= batchSize;
+                boolean intervalElapsed = intervalNanos > 0 && System.nanoTime() - chunkStart >= intervalNanos;
+                if (!pending.isEmpty() && (chunkFull || intervalElapsed)) {
+                    commits += commitPending(ctx, pending);
+                }
+            }
+            commits += commitPending(ctx, pending);
+            
+        } catch (RuntimeException e) {
+            // e.g. the operations iterator failed; the batch ends early
+            operationMetrics.record("executeBatch", start, false);
+            throw e;
+        } finally {
+            if (lease == null) {
+                contextLock.unlock();
+            }
+        }
+        
+        BatchResult<T> result = new BatchResult<>(items, commits, System.currentTimeMillis() - startTime);
+        operationMetrics.record("executeBatch", start, result.isAllSuccessful());
+        if (result.isAllSuccessful()) {
+            logger.info("✓ Batch complete: {}", result);
+        } else {
+            logger.warn("⚠ Batch complete with failures: {}", result);
+        }
+        return result;
     }
     
     /**
-     * Get Application by name (with caching)
+     * Execute operations one at a time, each in its own execute() transaction.
+     *
+     * For operations that commit on their own (e.g. RequestManager.addRequest()), which
+     * executeBatch() must not be used for: it replays a chunk's earlier operations after a
+     * failure, and anything they already committed would be done twice. Here a failing
+     * operation is recorded and the rest still run; nothing is ever re-run.
+     *
+     * @param operations Operations to run, consumed lazily in order
+     * @return Per-item outcomes (one transaction per item)
      */
-    public Application getApplication(String name) throws GeneralException {
-        if (applicationCache.containsKey(name)) {
-            return applicationCache.get(name);
+    public <T> BatchResult<T> executeEach(Iterable<? extends ContextOperation<T>> operations) {
+        long start = System.nanoTime();
+        long startTime = System.currentTimeMillis();
+        List<BatchResult.ItemResult<T>> items = new ArrayList<>();
+        int commits = 0;
+        
+        for (ContextOperation<T> operation : operations) {
+            BatchResult.ItemResult<T> item = new BatchResult.ItemResult<>(items.size());
+            items.add(item);
+            try {
+                item.succeeded(execute(operation));
+            } catch (GeneralException | RuntimeException e) {
+                logger.warn("⚠ Item {} failed: {}", item.getIndex(), e.getMessage());
+                item.failed(e);
+            }
+            commits++;
         }
         
-        Application app = context.getObjectByName(Application.class, name);
-        if (app != null) {
-            applicationCache.put(name, app);
+        BatchResult<T> result = new BatchResult<>(items, commits, System.currentTimeMillis() - startTime);
+        operationMetrics.record("executeEach", start, result.isAllSuccessful());
+        if (result.isAllSuccessful()) {
+            logger.info("✓ Items complete: {}", result);
+        } else {
+            logger.warn("⚠ Items complete with failures: {}", result);
         }
-        return app;
+        return result;
+    }
+    
+    /**
+     * Stream the results of a query page by page on the calling thread's context
+     * (iiq.context.paging.pageSize rows per query, decached every iiq.context.paging.decacheInterval rows).
+     * The iterator should be closed when the scan ends early.
+     */
+    public <T extends SailPointObject> PagedObjectIterator<T> iterate(Class<T> cls, QueryOptions options) {
+        return new PagedObjectIterator<>(getContext(), cls, options, pageSize, decacheInterval);
+    }
+    
+    /**
+     * Visit every object matching a query in constant memory.
+     *
+     * @param visitor Returns false to stop the scan early
+     * @return Number of objects visited
+     */
+    public <T extends SailPointObject> int scan(Class<T> cls, QueryOptions options,
+                                                PagedObjectIterator.ObjectVisitor<T> visitor) throws GeneralException {
+        return measure("scan", () -> iterate(cls, options).forEach(visitor));
+    }
+    
+    /**
+     * Column-projection query: selects only the given properties instead of hydrating objects.
+     *
+     * @param properties Properties to select, e.g. "id", "state", "owner.name"
+     * @return One lightweight row per matching object
+     */
+    public List<ProjectionRow> project(Class<? extends SailPointObject> cls, QueryOptions options,
+                                       String... properties) throws GeneralException {
+        return measure("project", () -> Projections.search(getContext(), cls, options, Arrays.asList(properties)));
+    }
+    
+    /**
+     * Column-projection query on the given context, e.g. the one passed to a
+     * withBackgroundContext() operation
+     */
+    public List<ProjectionRow> project(SailPointContext ctx, Class<? extends SailPointObject> cls, QueryOptions options,
+                                       String... properties) throws GeneralException {
+        return measure("project", () -> Projections.search(ctx, cls, options, Arrays.asList(properties)));
+    }
+    
+    /**
+     * Project the first object matching a filter
+     *
+     * @return Row, or null if nothing matches
+     */
+    public ProjectionRow projectOne(Class<? extends SailPointObject> cls, Filter filter,
+                                    String... properties) throws GeneralException {
+        QueryOptions qo = new QueryOptions();
+        if (filter != null) {
+            qo.addFilter(filter);
+        }
+        qo.setResultLimit(1);
+        List<ProjectionRow> rows = project(cls, qo, properties);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+    
+    /**
+     * Project many objects by id, one IN query per iiq.context.projection.batchSize ids
+     *
+     * @return Rows keyed by id ("id" is always selected); missing ids are absent
+     */
+    public Map<String, ProjectionRow> projectByIds(Class<? extends SailPointObject> cls, Collection<String> ids,
+                                                   String... properties) throws GeneralException {
+        return measure("projectByIds", () -> Projections.searchByIds(getContext(), cls, ids, Arrays.asList(properties), projectionBatchSize));
+    }
+    
+    /**
+     * Get Identity by name (with caching)
+     */
+    public Identity getIdentity(String name) throws GeneralException {
+        return measure("getIdentity", () -> {
+            // Identities change during tests, so they are only cached in development
+            if (!cacheEnabled || !environmentConfig.isDevelopment()) {
+                return getContext().getObjectByName(Identity.class, name);
+            }
+            return objectCache.getOrLoad(Identity.class, name,
+                () -> getContext().getObjectByName(Identity.class, name));
+        });
+    }
+    
+    /**
+     * Get Application by name (with caching)
+     */
+    public Application getApplication(String name) throws GeneralException {
+        return measure("getApplication", () -> {
+            if (!cacheEnabled) {
+                return getContext().getObjectByName(Application.class, name);
+            }
+            return objectCache.getOrLoad(Application.class, name,
+                () -> getContext().getObjectByName(Application.class, name));
+        });
     }
     
     /**
      * Get TaskDefinition by name (with caching)
      */
     public TaskDefinition getTaskDefinition(String name) throws GeneralException {
-        if (taskCache.containsKey(name)) {
-            return taskCache.get(name);
+        return measure("getTaskDefinition", () -> {
+            if (!cacheEnabled) {
+                return getContext().getObjectByName(TaskDefinition.class, name);
+            }
+            return objectCache.getOrLoad(TaskDefinition.class, name,
+                () -> getContext().getObjectByName(TaskDefinition.class, name));
+        });
+    }
+    
+    /**
+     * Invalidate the cached copy of an object.
+     * Must be called after saving or removing an object through the framework.
+     */
+    public void invalidate(SailPointObject object) {
+        if (objectCache != null) {
+            objectCache.invalidate(object);
         }
-        
-        TaskDefinition task = context.getObjectByName(TaskDefinition.class, name);
-        if (task != null) {
-            taskCache.put(name, task);
+    }
+    
+    /**
+     * Invalidate the cached copy of an object by class and name
+     */
+    public void invalidate(Class<? extends SailPointObject> cls, String name) {
+        if (objectCache != null) {
+            objectCache.invalidate(cls, name);
         }
-        return task;
     }
     
     /**
      * Clear all caches
      */
     public void clearCaches() {
-        identityCache.clear();
-        applicationCache.clear();
-        taskCache.clear();
+        if (objectCache != null) {
+            objectCache.clear();
+        }
         logger.info("All caches cleared");
     }
     
+    /**
+     * Get object cache statistics (size, hits, misses, evictions)
+     */
+    public Map<String, Object> getCacheStatistics() {
+        return objectCache != null ? objectCache.getStatistics() : Collections.emptyMap();
+    }
+    
+    /**
+     * Rebuild the primary context and discard every pooled context after a backend outage.
+     * Called by ContextHealthMonitor; safe to call manually. Threads re-bind to the new
+     * primary context on their next getContext() call, and in-flight leases keep their
+     * context until they are returned (it is then discarded).
+     */
+    public void reconnect() throws GeneralException {
+        logger.warn("⚠ Reconnecting IIQ Remote Context...");
+        contextLock.lock();
+        try {
+            SailPointContext fresh = SailPointFactory.createContext();
+            if (fresh == null) {
+                throw new GeneralException("Failed to create SailPoint Context - null returned");
+            }
+            
+            SailPointContext old = context;
+            context = fresh;
+            contextGeneration++;
+            primaryBinding.set(contextGeneration);
+            contextPool.invalidateAll();
+            backgroundPool.invalidateAll();
+            
+            // Cached objects belong to the old sessions
+            if (objectCache != null) {
+                objectCache.clear();
+            }
+            
+            try {
+                if (old != null) {
+                    SailPointFactory.releaseContext(old);
+                }
+            } catch (Exception e) {
+                logger.debug("Error releasing old context: {}", e.getMessage());
+            }
+            SailPointFactory.setContext(fresh);
+            
+            reconnectCount.increment();
+            logger.info("✓ IIQ Remote Context reconnected (reconnect #{})", reconnectCount.sum());
+        } finally {
+            contextLock.unlock();
+        }
+    }
+    
+    /**
+     * Get the circuit breaker that makes callers fail fast while the backend is down
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+    
+    public long getReconnectCount() {
+        return reconnectCount.sum();
+    }
+    
     /**
      * Refresh context
      */
@@ -415,13 +899,52 @@ public class IIQRemoteContext {
         Map<String, Object> stats = new HashMap<>();
         stats.put("initialized", initialized);
         stats.put("environment", environmentConfig.getCurrentEnvironment().toString());
-        stats.put("operationCount", operationCount);
+        stats.put("operationCount", operationCount.sum());
         stats.put("contextCreationTime", contextCreationTime + "ms");
-        stats.put("cacheSize", identityCache.size() + applicationCache.size() + taskCache.size());
-        stats.put("operations", new HashMap<>(operationStats));
+        stats.put("bootstrapPhases", getBootstrapTimings());
+        stats.put("validation", validationEnabled ? validationStatus : "DISABLED");
+        stats.put("reconnects", reconnectCount.sum());
+        if (circuitBreaker != null) {
+            stats.put("circuitBreaker", circuitBreaker.getStatistics());
+        }
+        stats.put("cacheSize", objectCache != null ? objectCache.size() : 0);
+        stats.put("cache", getCacheStatistics());
+        stats.put("operations", getOperationStatistics().getOperations());
+        if (contextPool != null) {
+            stats.put("contextPool", contextPool.getStatistics());
+        }
+        if (backgroundPool != null) {
+            stats.put("backgroundPool", backgroundPool.getStatistics());
+        }
         return stats;
     }
     
+    /**
+     * Get a structured snapshot of per-operation counts and latency percentiles
+     * (execute, getIdentity, getApplication, getTaskDefinition)
+     */
+    public OperationMetrics.Snapshot getOperationStatistics() {
+        return operationMetrics.snapshot();
+    }
+    
+    /**
+     * Get per-phase bootstrap timings in milliseconds, in execution order
+     */
+    public Map<String, Long> getBootstrapTimings() {
+        synchronized (bootstrapTimings) {
+            return new LinkedHashMap<>(bootstrapTimings);
+        }
+    }
+    
+    /**
+     * Get the background validation result.
+     * Completes with true when validation passed or is disabled (iiq.context.validation.enabled=false),
+     * false when it failed.
+     */
+    public CompletableFuture<Boolean> getValidationFuture() {
+        return validationFuture;
+    }
+    
     /**
      * Check if context is initialized
      */
@@ -439,6 +962,14 @@ public class IIQRemoteContext {
         try {
             clearCaches();
             
+            if (contextPool != null) {
+                contextPool.close();
+            }
+            
+            if (backgroundPool != null) {
+                backgroundPool.close();
+            }
+            
             if (context != null) {
                 context.close();
             }
@@ -448,7 +979,8 @@ public class IIQRemoteContext {
             }
             
             logger.info("✓ IIQ Remote Context cleaned up successfully");
-            logger.info("Total operations performed: {}", operationCount);
+            logger.info("Total operations performed: {}", operationCount.sum());
+            logger.info("Operation latencies: {}", operationMetrics.snapshot());
             
         } catch (Exception e) {
             logger.error("Error during cleanup", e);
@@ -457,8 +989,191 @@ public class IIQRemoteContext {
     
     // ===== Helper Methods =====
     
-    private void trackOperation(String operationName) {
-        operationStats.merge(operationName, 1, Integer::sum);
+    /**
+     * The calling thread's lease from either pool, or null if it uses the primary context
+     */
+    private ContextLease currentLease() {
+        ContextLease lease = contextPool.currentLease();
+        return lease != null ? lease : backgroundPool.currentLease();
+    }
+    
+    private void timePhase(String phase, BootstrapPhase action) {
+        long start = System.currentTimeMillis();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            bootstrapTimings.put(phase, System.currentTimeMillis() - start);
+        }
+    }
+    
+    private void runOnPooledContext(BootstrapStep step) throws GeneralException {
+        try (ContextLease lease = contextPool.lease()) {
+            step.run(lease.getContext());
+        }
+    }
+    
+    private ThreadFactory bootstrapThreadFactory() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "iiq-bootstrap-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    /**
+     * Fail fast when the context is not initialized or the backend circuit is open
+     */
+    private void assertAvailable() {
+        if (!initialized) {
+            throw new IllegalStateException("IIQ Context not initialized");
+        }
+        if (!circuitBreaker.allowRequest()) {
+            throw new IllegalStateException("IIQ backend unavailable (circuit breaker " + circuitBreaker.getState()
+                + ") - failing fast until the health monitor reconnects");
+        }
+    }
+    
+    private boolean isPrimaryBound() {
+        Integer bound = primaryBinding.get();
+        return bound != null && bound == contextGeneration;
+    }
+    
+    /**
+     * Whether an exception was caused by a lost database connection
+     */
+    static boolean isConnectionFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException || t instanceof java.net.ConnectException
+                    || t.getClass().getSimpleName().equals("JDBCConnectionException")) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a query failed because a property cannot be resolved
+     * (e.g. an identity attribute that is not searchable), as opposed to a
+     * connection or availability problem that a later query may not hit
+     */
+    public static boolean isUnresolvedProperty(Throwable e) {
+        if (isConnectionFailure(e)) {
+            return false;
+        }
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            String message = t.getMessage();
+            if (t.getClass().getSimpleName().equals("QueryException")
+                    || t.getClass().getSimpleName().equals("PropertyNotFoundException")
+                    || (message != null && message.contains("could not resolve property"))) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private <T> T measure(String operation, MeasuredCall<T> call) throws GeneralException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.call();
+            success = true;
+            return result;
+        } finally {
+            operationMetrics.record(operation, start, success);
+        }
+    }
+    
+    /**
+     * Commit (or roll back in rollback mode) the pending chunk and decache.
+     * If the commit fails, every item in the chunk is recorded as failed.
+     *
+     * @return 1 if a transaction was ended, 0 if nothing was pending
+     */
+    private <T> int commitPending(SailPointContext ctx, List<PendingOperation<T>> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        try {
+            if (environmentConfig.shouldRollbackTransactions()) {
+                ctx.rollbackTransaction();
+            } else {
+                ctx.commitTransaction();
+            }
+            for (PendingOperation<T> op : pending) {
+                op.item.succeeded(op.result);
+            }
+        } catch (Exception e) {
+            logger.error("✗ Batch commit failed, {} items rolled back: {}", pending.size(), e.getMessage());
+            rollbackQuietly(ctx);
+            for (PendingOperation<T> op : pending) {
+                op.item.failed(e);
+            }
+        } finally {
+            pending.clear();
+            decacheQuietly(ctx);
+        }
+        return 1;
+    }
+    
+    /**
+     * Re-run the operations of a chunk that was rolled back because of a failing item.
+     * Operations that fail on replay are recorded as failed and the replay starts over without them.
+     */
+    private <T> void replayPending(SailPointContext ctx, List<PendingOperation<T>> pending) {
+        boolean replayed = false;
+        while (!replayed && !pending.isEmpty()) {
+            replayed = true;
+            startTransactionQuietly(ctx);
+            for (Iterator<PendingOperation<T>> it = pending.iterator(); it.hasNext(); ) {
+                PendingOperation<T> op = it.next();
+                try {
+                    op.result = op.operation.execute(ctx);
+                } catch (Exception e) {
+                    logger.warn("⚠ Batch item {} failed on replay: {}", op.item.getIndex(), e.getMessage());
+                    op.item.failed(e);
+                    it.remove();
+                    rollbackQuietly(ctx);
+                    replayed = false;
+                    break;
+                }
+            }
+        }
+    }
+    
+    private void startTransactionQuietly(SailPointContext ctx) {
+        try {
+            ctx.startTransaction();
+        } catch (GeneralException e) {
+            logger.warn("⚠ Could not start transaction: {}", e.getMessage());
+        }
+    }
+    
+    private void rollbackQuietly(SailPointContext ctx) {
+        try {
+            ctx.rollbackTransaction();
+        } catch (GeneralException e) {
+            logger.error("Error rolling back transaction", e);
+        }
+        decacheQuietly(ctx);
+    }
+    
+    private void decacheQuietly(SailPointContext ctx) {
+        try {
+            ctx.decache();
+        } catch (GeneralException e) {
+            logger.warn("⚠ Could not decache context: {}", e.getMessage());
+        }
     }
     
     private String extractHost(String url) {
@@ -469,6 +1184,36 @@ public class IIQRemoteContext {
         }
     }
     
+    @FunctionalInterface
+    private interface BootstrapPhase {
+        void run() throws Exception;
+    }
+    
+    @FunctionalInterface
+    private interface MeasuredCall<T> {
+        T call() throws GeneralException;
+    }
+    
+    @FunctionalInterface
+    private interface BootstrapStep {
+        void run(SailPointContext context) throws GeneralException;
+    }
+    
+    /**
+     * Operation of the current batch chunk that has run but is not yet committed
+     */
+    private static final class PendingOperation<T> {
+        private final ContextOperation<T> operation;
+        private final BatchResult.ItemResult<T> item;
+        private T result;
+        
+        private PendingOperation(ContextOperation<T> operation, BatchResult.ItemResult<T> item, T result) {
+            this.operation = operation;
+            this.item = item;
+            this.result = result;
+        }
+    }
+    
     /**
      * Functional interface for context operations
      */
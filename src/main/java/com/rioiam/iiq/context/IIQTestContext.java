@@ -1,6 +1,7 @@
 package com.rioiam.iiq.context;
 
 import com.rioiam.iiq.config.EnvironmentConfig;
+import com.rioiam.iiq.database.InstrumentedDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,9 +23,6 @@ import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-
-import com.mysql.cj.jdbc.MysqlDataSource;
 
 /**
  * IIQ Test Context Manager using Direct Connection Approach
@@ -43,13 +41,40 @@ public class IIQTestContext {
     @Value("${iiq.properties.location:classpath:environments/dev/iiq.properties}")
     private String iiqPropertiesPath;
     
+    @Value("${db.pool.validation.query:SELECT 1}")
+    private String validationQuery;
+    
+    @Value("${db.pool.test.on.borrow:true}")
+    private boolean testOnBorrow;
+    
+    @Value("${db.pool.test.while.idle:true}")
+    private boolean testWhileIdle;
+    
+    @Value("${db.pool.time.between.eviction:30000}")
+    private long timeBetweenEvictionRunsMillis;
+    
     private SailPointContext context;
     private Properties iiqProperties;
-    private DataSource dataSource;
+    private InstrumentedDataSource dataSource;
     private boolean initialized = false;
     
+    @Value("${iiq.context.cache.maxSize:1000}")
+    private int cacheMaxSize;
+    
+    @Value("${iiq.context.cache.ttlSeconds:300}")
+    private long cacheTtlSeconds;
+    
+    @Value("${iiq.context.paging.pageSize:500}")
+    private int pageSize;
+    
+    @Value("${iiq.context.paging.decacheInterval:1000}")
+    private int decacheInterval;
+    
+    @Value("${iiq.context.projection.batchSize:500}")
+    private int projectionBatchSize;
+    
     // Cache for frequently accessed objects
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
+    private ObjectCache cache;
     private long contextCreationTime;
     
     /**
@@ -64,6 +89,8 @@ public class IIQTestContext {
         try {
             long startTime = System.currentTimeMillis();
             
+            cache = new ObjectCache(cacheMaxSize, cacheTtlSeconds);
+            
             // Step 1: Load IIQ properties
             loadIIQProperties();
             
@@ -149,36 +176,27 @@ public class IIQTestContext {
     }
     
     /**
-     * Initialize data source for direct database connection
+     * Initialize pooled data source for direct database connection
      */
     private void initializeDataSource() throws SQLException {
-        logger.info("Initializing database connection...");
-        
-        String dbUrl = iiqProperties.getProperty("dataSource.url");
-        String username = iiqProperties.getProperty("dataSource.username");
-        String password = iiqProperties.getProperty("dataSource.password");
+        logger.info("Initializing database connection pool...");
         
-        // Create MySQL data source
-        MysqlDataSource mysqlDS = new MysqlDataSource();
-        mysqlDS.setURL(dbUrl);
-        mysqlDS.setUser(username);
-        mysqlDS.setPassword(password);
+        // Pool sizing comes from the dataSource.* keys in iiq.properties
+        InstrumentedDataSource pooledDS = InstrumentedDataSource.fromIiqProperties(iiqProperties, "dataSource");
         
-        // Configure connection properties
-        mysqlDS.setAutoReconnect(true);
-        mysqlDS.setUseSSL(false);
-        mysqlDS.setServerTimezone("UTC");
-        mysqlDS.setAllowPublicKeyRetrieval(true);
+        // Connection validation (application.properties)
+        pooledDS.setValidationQuery(validationQuery);
+        pooledDS.setTestOnBorrow(testOnBorrow);
+        pooledDS.setTestWhileIdle(testWhileIdle);
+        pooledDS.setTimeBetweenEvictionRunsMillis(timeBetweenEvictionRunsMillis);
         
-        // Set connection pool properties
-        mysqlDS.setConnectionAttributes("connectionTimeout:30000,socketTimeout:60000");
+        this.dataSource = pooledDS;
         
-        this.dataSource = mysqlDS;
-        
-        // Test connection
+        // Test connection (also creates the pool and its minIdle connections)
         try (Connection conn = dataSource.getConnection()) {
             if (conn.isValid(5)) {
-                logger.info("✓ Database connection successful");
+                logger.info("✓ Database connection pool ready (maxTotal: {}, minIdle: {})",
+                    pooledDS.getMaxTotal(), pooledDS.getMinIdle());
             }
         }
     }
@@ -359,29 +377,75 @@ public class IIQTestContext {
     /**
      * Get object by name with caching
      */
-    @SuppressWarnings("unchecked")
     public <T extends SailPointObject> T getObject(Class<T> cls, String name) throws GeneralException {
-        String key = cls.getSimpleName() + ":" + name;
-        
-        if (cache.containsKey(key)) {
-            return (T) cache.get(key);
-        }
-        
-        T object = context.getObjectByName(cls, name);
-        if (object != null && environmentConfig.isDevelopment()) {
-            cache.put(key, object);
+        if (!environmentConfig.isDevelopment()) {
+            return context.getObjectByName(cls, name);
         }
-        
-        return object;
+        return cache.getOrLoad(cls, name, () -> context.getObjectByName(cls, name));
     }
     
     /**
-     * Search for objects
+     * Search for objects (loads every match; use iterate() or scan() for large result sets)
      */
     public <T extends SailPointObject> List<T> search(Class<T> cls, QueryOptions options) throws GeneralException {
         return context.getObjects(cls, options);
     }
     
+    /**
+     * Stream the results of a query page by page, decaching as it goes
+     */
+    public <T extends SailPointObject> PagedObjectIterator<T> iterate(Class<T> cls, QueryOptions options) {
+        return new PagedObjectIterator<>(getContext(), cls, options, pageSize, decacheInterval);
+    }
+    
+    /**
+     * Visit every object matching a query in constant memory
+     *
+     * @param visitor Returns false to stop the scan early
+     * @return Number of objects visited
+     */
+    public <T extends SailPointObject> int scan(Class<T> cls, QueryOptions options,
+                                                PagedObjectIterator.ObjectVisitor<T> visitor) throws GeneralException {
+        return iterate(cls, options).forEach(visitor);
+    }
+    
+    /**
+     * Column-projection query: selects only the given properties instead of hydrating objects.
+     *
+     * @param properties Properties to select, e.g. "id", "state", "owner.name"
+     * @return One lightweight row per matching object
+     */
+    public List<ProjectionRow> project(Class<? extends SailPointObject> cls, QueryOptions options,
+                                       String... properties) throws GeneralException {
+        return Projections.search(getContext(), cls, options, Arrays.asList(properties));
+    }
+    
+    /**
+     * Project the first object matching a filter
+     *
+     * @return Row, or null if nothing matches
+     */
+    public ProjectionRow projectOne(Class<? extends SailPointObject> cls, Filter filter,
+                                    String... properties) throws GeneralException {
+        QueryOptions qo = new QueryOptions();
+        if (filter != null) {
+            qo.addFilter(filter);
+        }
+        qo.setResultLimit(1);
+        List<ProjectionRow> rows = project(cls, qo, properties);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+    
+    /**
+     * Project many objects by id, one IN query per iiq.context.projection.batchSize ids
+     *
+     * @return Rows keyed by id ("id" is always selected); missing ids are absent
+     */
+    public Map<String, ProjectionRow> projectByIds(Class<? extends SailPointObject> cls, Collection<String> ids,
+                                                   String... properties) throws GeneralException {
+        return Projections.searchByIds(getContext(), cls, ids, Arrays.asList(properties), projectionBatchSize);
+    }
+    
     /**
      * Count objects
      */
@@ -395,6 +459,7 @@ public class IIQTestContext {
     public void saveObject(SailPointObject object) throws GeneralException {
         context.saveObject(object);
         context.commitTransaction();
+        cache.invalidate(object);
     }
     
     /**
@@ -403,6 +468,7 @@ public class IIQTestContext {
     public void deleteObject(SailPointObject object) throws GeneralException {
         context.removeObject(object);
         context.commitTransaction();
+        cache.invalidate(object);
     }
     
     /**
@@ -424,6 +490,20 @@ public class IIQTestContext {
         return initialized;
     }
     
+    /**
+     * Get the pooled data source
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+    
+    /**
+     * Get live connection pool metrics (active/idle connections, wait time, borrow latency)
+     */
+    public Map<String, Object> getDataSourceMetrics() {
+        return dataSource != null ? dataSource.getMetrics() : Collections.emptyMap();
+    }
+    
     /**
      * Get statistics
      */
@@ -432,7 +512,9 @@ public class IIQTestContext {
         stats.put("initialized", initialized);
         stats.put("environment", environmentConfig.getCurrentEnvironment().toString());
         stats.put("cacheSize", cache.size());
+        stats.put("cache", cache.getStatistics());
         stats.put("initTime", contextCreationTime + "ms");
+        stats.put("dataSource", getDataSourceMetrics());
         return stats;
     }
     
@@ -450,6 +532,10 @@ public class IIQTestContext {
                 context.close();
             }
             
+            if (dataSource != null) {
+                dataSource.close();
+            }
+            
             logger.info("✓ Cleanup completed");
             
         } catch (Exception e) {
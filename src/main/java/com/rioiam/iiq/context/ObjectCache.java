@@ -0,0 +1,315 @@
+package com.rioiam.iiq.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sailpoint.object.SailPointObject;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache for SailPoint objects, keyed by class and name.
+ *
+ * - Size limit with frequency-aware eviction: when the cache is full, a sweep
+ *   removes expired entries and then the least frequently used ~10% of entries
+ *   (ties broken by least recent access). Frequencies are halved after every
+ *   10 x maxSize writes so that objects which were popular long ago eventually age out.
+ * - TTL: entries older than the configured time-to-live are treated as misses.
+ * - Invalidation: callers that save or remove objects must call invalidate()
+ *   so that later reads do not return stale (detached) copies.
+ *
+ * @author RIOIAM Framework
+ */
+public class ObjectCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObjectCache.class);
+
+    private static final int MAX_FREQUENCY = 1 << 16;
+    private static final int AGING_FACTOR = 10;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+    private final AtomicLong writesSinceAging = new AtomicLong();
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param maxSize Maximum number of cached objects
+     * @param ttlSeconds Time-to-live of an entry in seconds (0 = no expiry)
+     */
+    public ObjectCache(int maxSize, long ttlSeconds) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds > 0 ? TimeUnit.SECONDS.toNanos(ttlSeconds) : 0;
+    }
+
+    /**
+     * Get a cached object
+     *
+     * @return Cached object, or null on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends SailPointObject> T get(Class<T> cls, String name) {
+        String key = key(cls, name);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (isExpired(entry, now)) {
+            if (entries.remove(key, entry)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+
+        entry.touch(now);
+        hits.increment();
+        return (T) entry.value;
+    }
+
+    /**
+     * Get a cached object, loading and caching it on a miss
+     *
+     * @param loader Loads the object when it is not cached; null results are not cached
+     */
+    public <T extends SailPointObject> T getOrLoad(Class<T> cls, String name, Loader<T> loader) throws GeneralException {
+        T cached = get(cls, name);
+        if (cached != null) {
+            return cached;
+        }
+
+        T loaded = loader.load();
+        if (loaded != null) {
+            put(cls, name, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Cache an object under its class and name
+     */
+    public <T extends SailPointObject> void put(Class<T> cls, String name, T object) {
+        if (object == null || name == null) {
+            return;
+        }
+        entries.put(key(cls, name), new Entry(object, System.nanoTime()));
+        writesSinceAging.incrementAndGet();
+
+        if (entries.size() > maxSize) {
+            sweep();
+        }
+    }
+
+    /**
+     * Remove a cached object after it has been saved or removed
+     */
+    public void invalidate(SailPointObject object) {
+        if (object != null) {
+            invalidate(object.getClass(), object.getName());
+        }
+    }
+
+    /**
+     * Remove a cached object by class and name
+     */
+    public void invalidate(Class<?> cls, String name) {
+        if (name != null && entries.remove(key(cls, name)) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Remove all cached objects of a class
+     */
+    public void invalidateAll(Class<?> cls) {
+        String prefix = typeName(cls) + ":";
+        entries.keySet().removeIf(key -> {
+            if (key.startsWith(prefix)) {
+                invalidations.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Remove every cached object
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Count cached objects of a class
+     */
+    public int size(Class<?> cls) {
+        String prefix = typeName(cls) + ":";
+        int count = 0;
+        for (String key : entries.keySet()) {
+            if (key.startsWith(prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get cache statistics (hits, misses, evictions, expirations, invalidations)
+     */
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlSeconds", TimeUnit.NANOSECONDS.toSeconds(ttlNanos));
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total > 0 ? Math.round(hitCount * 1000.0 / total) / 1000.0 : 0.0);
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    // ===== Helper Methods =====
+
+    private void sweep() {
+        // One sweeping thread at a time; others may briefly exceed the limit
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            List<Candidate> candidates = new ArrayList<>(entries.size());
+
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                if (isExpired(e.getValue(), now)) {
+                    if (entries.remove(e.getKey(), e.getValue())) {
+                        expirations.increment();
+                    }
+                } else {
+                    candidates.add(new Candidate(e.getKey(), e.getValue()));
+                }
+            }
+
+            int excess = entries.size() - maxSize;
+            if (excess > 0) {
+                int toEvict = Math.max(excess, maxSize / 10);
+                candidates.sort(Comparator
+                    .comparingInt((Candidate c) -> c.frequency)
+                    .thenComparingLong(c -> c.lastAccess));
+
+                for (int i = 0; i < toEvict && i < candidates.size(); i++) {
+                    Candidate victim = candidates.get(i);
+                    if (entries.remove(victim.key, victim.entry)) {
+                        evictions.increment();
+                    }
+                }
+            }
+
+            // Age frequencies so that stale popularity does not pin entries forever
+            if (writesSinceAging.get() >= AGING_FACTOR * (long) maxSize) {
+                writesSinceAging.set(0);
+                for (Entry entry : entries.values()) {
+                    entry.frequency.updateAndGet(f -> f >>> 1);
+                }
+            }
+
+            logger.debug("Cache sweep complete: {} entries, {} evictions total", entries.size(), evictions.sum());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlNanos > 0 && now - entry.created > ttlNanos;
+    }
+
+    private static String key(Class<?> cls, String name) {
+        return typeName(cls) + ":" + name;
+    }
+
+    private static String typeName(Class<?> cls) {
+        // Hibernate proxies are named e.g. "Identity$HibernateProxy$..."
+        String simpleName = cls.getSimpleName();
+        int proxyMarker = simpleName.indexOf('$');
+        return proxyMarker > 0 ? simpleName.substring(0, proxyMarker) : simpleName;
+    }
+
+    /**
+     * Loads an object on a cache miss
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws GeneralException;
+    }
+
+    /**
+     * Eviction candidate with frequency and access time captured at sweep time,
+     * so that concurrent reads cannot change the sort order mid-sort
+     */
+    private static final class Candidate {
+        private final String key;
+        private final Entry entry;
+        private final int frequency;
+        private final long lastAccess;
+
+        private Candidate(String key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.frequency = entry.frequency.get();
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long created;
+        private final AtomicInteger frequency = new AtomicInteger(1);
+        private volatile long lastAccess;
+
+        private Entry(Object value, long created) {
+            this.value = value;
+            this.created = created;
+            this.lastAccess = created;
+        }
+
+        private void touch(long now) {
+            lastAccess = now;
+            if (frequency.get() < MAX_FREQUENCY) {
+                frequency.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.rioiam.iiq.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.SailPointObject;
+import sailpoint.tools.GeneralException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming iterator over a SailPoint query, for scanning very large result sets
+ * in constant memory.
+ *
+ * - Results are fetched one page at a time using QueryOptions firstRow/resultLimit
+ * - Queries without an ordering are ordered by id so that pages are stable
+ * - The context is decached every decacheInterval rows (at the next page boundary,
+ *   so objects of the page being iterated stay attached) to keep the Hibernate session bounded
+ * - Iteration can stop early through close() or by returning false from an ObjectVisitor
+ *
+ * Objects returned from earlier pages are detached once the context is decached,
+ * so callers should not hold on to them. Rows inserted or deleted during the scan
+ * may shift page boundaries.
+ *
+ * Usage:
+ * <pre>
+ * try (PagedObjectIterator&lt;Identity&gt; it = remoteContext.iterate(Identity.class, qo)) {
+ *     while (it.hasNext()) {
+ *         Identity identity = it.next();
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> Object type
+ * @author RIOIAM Framework
+ */
+public class PagedObjectIterator<T extends SailPointObject> implements Iterator<T>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagedObjectIterator.class);
+
+    private final SailPointContext context;
+    private final Class<T> cls;
+    private final QueryOptions options;
+    private final int pageSize;
+    private final int decacheInterval;
+    private final int firstRow;
+    private final int resultLimit;
+
+    private Iterator<T> page = Collections.emptyIterator();
+    private int nextRow;
+    private int returned;
+    private int pagesFetched;
+    private int rowsSinceDecache;
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * @param context Context to query (must not be used by other threads during the scan)
+     * @param cls Object class
+     * @param options Query options (copied; firstRow and resultLimit bound the whole scan)
+     * @param pageSize Rows fetched per query
+     * @param decacheInterval Rows between decache calls (0 = never decache)
+     */
+    public PagedObjectIterator(SailPointContext context, Class<T> cls, QueryOptions options,
+                               int pageSize, int decacheInterval) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        this.context = context;
+        this.cls = cls;
+        this.options = options != null ? new QueryOptions(options) : new QueryOptions();
+        this.pageSize = pageSize;
+        this.decacheInterval = decacheInterval;
+        this.firstRow = Math.max(0, this.options.getFirstRow());
+        this.resultLimit = this.options.getResultLimit();
+        this.nextRow = firstRow;
+
+        if (this.options.getOrderings() == null || this.options.getOrderings().isEmpty()) {
+            this.options.addOrdering("id", true);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (!page.hasNext() && !exhausted) {
+            try {
+                fetchNextPage();
+            } catch (GeneralException e) {
+                throw new IllegalStateException("Paged query failed for " + cls.getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        returned++;
+        rowsSinceDecache++;
+        return page.next();
+    }
+
+    /**
+     * Visit every remaining object, stopping early when the visitor returns false.
+     *
+     * @return Number of objects visited
+     */
+    public int forEach(ObjectVisitor<T> visitor) throws GeneralException {
+        int visited = 0;
+        try {
+            while (hasNext()) {
+                visited++;
+                if (!visitor.visit(next())) {
+                    logger.debug("Scan of {} stopped by visitor after {} objects", cls.getSimpleName(), visited);
+                    break;
+                }
+            }
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof GeneralException) {
+                throw (GeneralException) e.getCause();
+            }
+            throw e;
+        } finally {
+            close();
+        }
+        return visited;
+    }
+
+    /**
+     * Stop iterating; no further pages are fetched
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            page = Collections.emptyIterator();
+            logger.debug("Scan of {} closed: {} objects in {} pages", cls.getSimpleName(), returned, pagesFetched);
+        }
+    }
+
+    /**
+     * Number of objects returned so far
+     */
+    public int getReturnedCount() {
+        return returned;
+    }
+
+    public int getPagesFetched() {
+        return pagesFetched;
+    }
+
+    // ===== Helper Methods =====
+
+    private void fetchNextPage() throws GeneralException {
+        int limit = pageSize;
+        if (resultLimit > 0) {
+            int remaining = firstRow + resultLimit - nextRow;
+            if (remaining <= 0) {
+                exhausted = true;
+                return;
+            }
+            limit = Math.min(limit, remaining);
+        }
+
+        if (decacheInterval > 0 && rowsSinceDecache >= decacheInterval) {
+            context.decache();
+            rowsSinceDecache = 0;
+        }
+
+        options.setFirstRow(nextRow);
+        options.setResultLimit(limit);
+        List<T> rows = context.getObjects(cls, options);
+        pagesFetched++;
+
+        int count = rows != null ? rows.size() : 0;
+        nextRow += count;
+        if (count < limit) {
+            exhausted = true;
+        }
+        page = count > 0 ? rows.iterator() : Collections.emptyIterator();
+    }
+
+    /**
+     * Callback for visiting objects of a scan
+     */
+    @FunctionalInterface
+    public interface ObjectVisitor<T> {
+        /**
+         * @return true to continue, false to stop the scan
+         */
+        boolean visit(T object) throws GeneralException;
+    }
+}
@@ -0,0 +1,108 @@
+package com.rioiam.iiq.context;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lightweight, read-only result row of a column-projection query.
+ *
+ * Holds only the requested properties of an object (e.g. "id", "state", "owner.name"),
+ * so reading it never touches XML attribute blobs or lazy associations.
+ *
+ * @author RIOIAM Framework
+ */
+public class ProjectionRow {
+
+    private final Map<String, Object> values;
+
+    ProjectionRow(List<String> properties, Object[] row) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < properties.size(); i++) {
+            map.put(properties.get(i), row != null && i < row.length ? row[i] : null);
+        }
+        this.values = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Raw value of a projected property
+     */
+    public Object get(String property) {
+        return values.get(property);
+    }
+
+    /**
+     * Value as a String (enums and other types via toString()), or null
+     */
+    public String getString(String property) {
+        Object value = values.get(property);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Value as a boolean; null is treated as false
+     */
+    public boolean getBoolean(String property) {
+        Object value = values.get(property);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    /**
+     * Value as an int; null or non-numeric values return defaultValue
+     */
+    public int getInt(String property, int defaultValue) {
+        Object value = values.get(property);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return value != null ? Integer.parseInt(value.toString()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public Date getDate(String property) {
+        Object value = values.get(property);
+        return value instanceof Date ? (Date) value : null;
+    }
+
+    /**
+     * Value as an enum constant; accepts both enum values and their names
+     */
+    public <E extends Enum<E>> E getEnum(String property, Class<E> type) {
+        Object value = values.get(property);
+        if (value == null) {
+            return null;
+        }
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        try {
+            return Enum.valueOf(type, value.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public boolean has(String property) {
+        return values.containsKey(property);
+    }
+
+    /**
+     * All projected values, in projection order
+     */
+    public Map<String, Object> toMap() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectionRow" + values;
+    }
+}
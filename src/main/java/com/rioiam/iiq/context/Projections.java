@@ -0,0 +1,85 @@
+package com.rioiam.iiq.context;
+
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Filter;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.SailPointObject;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-projection queries shared by IIQRemoteContext and IIQTestContext.
+ *
+ * Uses SailPointContext.search(cls, options, properties), which selects only the
+ * requested columns instead of hydrating full objects.
+ *
+ * @author RIOIAM Framework
+ */
+final class Projections {
+
+    private Projections() {
+    }
+
+    /**
+     * Run a projection query
+     *
+     * @param properties Properties to select, e.g. "id", "state", "owner.name"
+     * @return One row per matching object, in query order
+     */
+    static List<ProjectionRow> search(SailPointContext context, Class<? extends SailPointObject> cls,
+                                      QueryOptions options, List<String> properties) throws GeneralException {
+        if (properties == null || properties.isEmpty()) {
+            throw new IllegalArgumentException("At least one property must be projected");
+        }
+
+        List<ProjectionRow> rows = new ArrayList<>();
+        Iterator<Object[]> it = context.search(cls, options != null ? options : new QueryOptions(), properties);
+        while (it.hasNext()) {
+            rows.add(new ProjectionRow(properties, it.next()));
+        }
+        return rows;
+    }
+
+    /**
+     * Project a set of objects by id, issuing one IN query per batch of ids
+     *
+     * @return Rows keyed by id (ids that do not exist are absent)
+     */
+    static Map<String, ProjectionRow> searchByIds(SailPointContext context, Class<? extends SailPointObject> cls,
+                                                  Collection<String> ids, List<String> properties,
+                                                  int batchSize) throws GeneralException {
+        Map<String, ProjectionRow> rows = new LinkedHashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return rows;
+        }
+
+        // "id" is always selected so rows can be keyed
+        List<String> selected = new ArrayList<>();
+        selected.add("id");
+        for (String property : properties) {
+            if (!"id".equals(property)) {
+                selected.add(property);
+            }
+        }
+
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < distinctIds.size(); from += size) {
+            List<String> chunk = distinctIds.subList(from, Math.min(from + size, distinctIds.size()));
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(Filter.in("id", new ArrayList<>(chunk)));
+
+            for (ProjectionRow row : search(context, cls, qo, selected)) {
+                rows.put(row.getString("id"), row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,319 @@
+package com.rioiam.iiq.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.tools.GeneralException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of SailPointContexts for concurrent test execution.
+ *
+ * A SailPointContext wraps a single Hibernate session and must never be shared
+ * between threads. This pool hands out one context per thread:
+ * - Contexts are created lazily through SailPointFactory, up to maxSize
+ * - A lease is bound to the calling thread (per-thread affinity) and is re-entrant
+ * - The leased context is registered as the thread's current SailPoint context,
+ *   so IIQ APIs that call SailPointFactory.getCurrentContext() see the same session
+ * - Returned contexts are decached before they are handed to the next thread
+ *
+ * @author RIOIAM Framework
+ */
+public class SailPointContextPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(SailPointContextPool.class);
+
+    private final int maxSize;
+    private final long leaseTimeoutMillis;
+    private final Supplier<SailPointContext> releaseBinding;
+
+    private final BlockingQueue<SailPointContext> idle = new LinkedBlockingQueue<>();
+    private final Set<SailPointContext> all = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final ThreadLocal<ContextLease> currentLease = new ThreadLocal<>();
+
+    // Statistics
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong leaseTimeouts = new AtomicLong();
+    private final AtomicLong discardedCount = new AtomicLong();
+
+    private volatile boolean closed = false;
+
+    /**
+     * @param maxSize Maximum number of contexts the pool will create
+     * @param leaseTimeoutMillis Default time to wait for a free context
+     * @param releaseBinding Supplies the context to re-bind to a thread once its lease
+     *                       is returned (may return null to leave the thread unbound)
+     */
+    public SailPointContextPool(int maxSize, long leaseTimeoutMillis, Supplier<SailPointContext> releaseBinding) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Context pool size must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.releaseBinding = releaseBinding;
+    }
+
+    /**
+     * Lease a context using the default timeout.
+     */
+    public ContextLease lease() throws GeneralException {
+        return lease(leaseTimeoutMillis);
+    }
+
+    /**
+     * Lease a context for the calling thread.
+     * If the thread already holds a lease, the same context is returned (re-entrant).
+     *
+     * @param timeoutMillis Maximum time to wait for a free context
+     * @return Lease that must be closed to return the context
+     */
+    public ContextLease lease(long timeoutMillis) throws GeneralException {
+        ContextLease existing = currentLease.get();
+        if (existing != null) {
+            existing.depth++;
+            return existing;
+        }
+
+        SailPointContext context = acquire(timeoutMillis);
+        if (context == null) {
+            leaseTimeouts.incrementAndGet();
+            throw new GeneralException("Timed out after " + timeoutMillis + " ms waiting for a pooled SailPoint context "
+                + "(pool size: " + maxSize + ")");
+        }
+
+        return bind(context);
+    }
+
+    /**
+     * Lease a context only if one is available immediately.
+     *
+     * @return Lease, or null if the pool is exhausted
+     */
+    public ContextLease tryLease() throws GeneralException {
+        ContextLease existing = currentLease.get();
+        if (existing != null) {
+            existing.depth++;
+            return existing;
+        }
+
+        SailPointContext context = acquire(0);
+        return context != null ? bind(context) : null;
+    }
+
+    /**
+     * Get the lease held by the calling thread.
+     *
+     * @return Current lease, or null if the thread holds none
+     */
+    public ContextLease currentLease() {
+        return currentLease.get();
+    }
+
+    /**
+     * Discard every pooled context after a backend outage. Idle contexts are closed now;
+     * contexts currently leased are closed when they are returned, and new leases get
+     * freshly created contexts. The pool stays open.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        SailPointContext context;
+        int discarded = 0;
+        while ((context = idle.poll()) != null) {
+            discard(context);
+            discarded++;
+        }
+        logger.info("Context pool invalidated ({} idle contexts discarded, {} leased will be discarded on return)",
+            discarded, getLeasedCount());
+    }
+
+    /**
+     * Close every pooled context. Leased contexts are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        SailPointContext context;
+        while ((context = idle.poll()) != null) {
+            destroy(context);
+        }
+        logger.info("✓ Context pool closed ({} contexts created, {} leases served)", created.get(), leaseCount.get());
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getLeasedCount() {
+        return all.size() - idle.size();
+    }
+
+    /**
+     * Get pool statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("maxSize", maxSize);
+        stats.put("created", created.get());
+        stats.put("idle", getIdleCount());
+        stats.put("leased", getLeasedCount());
+        stats.put("leases", leaseCount.get());
+        stats.put("leaseTimeouts", leaseTimeouts.get());
+        stats.put("discarded", discardedCount.get());
+        return stats;
+    }
+
+    // ===== Helper Methods =====
+
+    private SailPointContext acquire(long timeoutMillis) throws GeneralException {
+        if (closed) {
+            throw new GeneralException("SailPoint context pool is closed");
+        }
+
+        SailPointContext context = idle.poll();
+        if (context != null) {
+            return context;
+        }
+
+        // Grow the pool if we are still below the limit
+        while (true) {
+            int current = created.get();
+            if (current >= maxSize) {
+                break;
+            }
+            if (created.compareAndSet(current, current + 1)) {
+                try {
+                    return create();
+                } catch (GeneralException | RuntimeException e) {
+                    created.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+
+        if (timeoutMillis <= 0) {
+            return null;
+        }
+
+        try {
+            return idle.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException("Interrupted while waiting for a pooled SailPoint context", e);
+        }
+    }
+
+    private SailPointContext create() throws GeneralException {
+        SailPointContext context = SailPointFactory.createContext();
+        if (context == null) {
+            throw new GeneralException("Failed to create pooled SailPoint Context - null returned");
+        }
+        all.add(context);
+        logger.debug("Created pooled SailPoint context {}/{}", created.get(), maxSize);
+        return context;
+    }
+
+    private ContextLease bind(SailPointContext context) {
+        SailPointFactory.setContext(context);
+        ContextLease lease = new ContextLease(this, context, generation.get());
+        currentLease.set(lease);
+        leaseCount.incrementAndGet();
+        return lease;
+    }
+
+    private void release(ContextLease lease) {
+        currentLease.remove();
+        SailPointFactory.setContext(releaseBinding != null ? releaseBinding.get() : null);
+
+        SailPointContext context = lease.context;
+        try {
+            context.decache();
+        } catch (Exception e) {
+            logger.warn("Discarding pooled context that failed to decache: {}", e.getMessage());
+            discard(context);
+            return;
+        }
+
+        if (closed || lease.invalid || lease.generation != generation.get()) {
+            discard(context);
+        } else {
+            idle.offer(context);
+        }
+    }
+
+    private void discard(SailPointContext context) {
+        discardedCount.incrementAndGet();
+        destroy(context);
+    }
+
+    private void destroy(SailPointContext context) {
+        if (all.remove(context)) {
+            created.decrementAndGet();
+        }
+        try {
+            SailPointFactory.releaseContext(context);
+        } catch (Exception e) {
+            logger.warn("Error closing pooled context: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * A context leased to a single thread.
+     * Close it (try-with-resources) to return the context to the pool.
+     */
+    public static final class ContextLease implements AutoCloseable {
+        private final SailPointContextPool pool;
+        private final SailPointContext context;
+        private final Thread owner;
+        private final int generation;
+        private int depth = 1;
+        private boolean invalid = false;
+
+        private ContextLease(SailPointContextPool pool, SailPointContext context, int generation) {
+            this.pool = pool;
+            this.context = context;
+            this.owner = Thread.currentThread();
+            this.generation = generation;
+        }
+
+        public SailPointContext getContext() {
+            return context;
+        }
+
+        /**
+         * Mark the context as broken so it is closed instead of being reused.
+         */
+        public void invalidate() {
+            invalid = true;
+        }
+
+        @Override
+        public void close() {
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("Context lease must be returned by the thread that leased it");
+            }
+            if (--depth == 0) {
+                pool.release(this);
+            }
+        }
+    }
+}
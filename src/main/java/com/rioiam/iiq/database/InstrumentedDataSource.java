@@ -0,0 +1,126 @@
+package com.rioiam.iiq.database;
+
+import com.rioiam.iiq.metrics.LatencyHistogram;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.dbcp2.PoolableConnection;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pooled DataSource (commons-dbcp2) with live pool metrics.
+ *
+ * Pool settings are read from the IIQ "dataSource.*" keys:
+ * - dataSource.maxTotal, dataSource.minIdle, dataSource.maxWaitMillis
+ * - dataSource.minEvictableIdleTimeMillis
+ * - dataSource.maxOpenPreparedStatements (prepared statement caching)
+ *
+ * Every getConnection() call is timed, so borrow latency percentiles include
+ * time spent waiting for a free connection as well as new connection setup.
+ *
+ * @author RIOIAM Framework
+ */
+public class InstrumentedDataSource extends BasicDataSource {
+
+    private final LatencyHistogram borrowLatency = new LatencyHistogram();
+    private final LongAdder borrowFailures = new LongAdder();
+
+    /**
+     * Create a pooled data source from IIQ properties.
+     *
+     * @param iiqProperties IIQ properties (iiq.properties)
+     * @param prefix Property prefix, e.g. "dataSource"
+     */
+    public static InstrumentedDataSource fromIiqProperties(Properties iiqProperties, String prefix) {
+        InstrumentedDataSource ds = new InstrumentedDataSource();
+        ds.setUrl(iiqProperties.getProperty(prefix + ".url"));
+        ds.setUsername(iiqProperties.getProperty(prefix + ".username"));
+        ds.setPassword(iiqProperties.getProperty(prefix + ".password"));
+        ds.setDriverClassName(iiqProperties.getProperty(prefix + ".driverClassName", "com.mysql.cj.jdbc.Driver"));
+
+        // Pool sizing
+        ds.setMaxTotal(intProperty(iiqProperties, prefix + ".maxTotal", 50));
+        ds.setMinIdle(intProperty(iiqProperties, prefix + ".minIdle", 5));
+        ds.setMaxIdle(Math.max(ds.getMinIdle(), ds.getMaxTotal()));
+        ds.setMaxWaitMillis(longProperty(iiqProperties, prefix + ".maxWaitMillis", 10000L));
+        ds.setMinEvictableIdleTimeMillis(longProperty(iiqProperties, prefix + ".minEvictableIdleTimeMillis", 300000L));
+
+        // Prepared statement caching (negative = no limit, as in iiq.properties)
+        ds.setPoolPreparedStatements(true);
+        ds.setMaxOpenPreparedStatements(intProperty(iiqProperties, prefix + ".maxOpenPreparedStatements", -1));
+
+        // Carried over from the previous MysqlDataSource setup
+        ds.addConnectionProperty("autoReconnect", "true");
+        ds.addConnectionProperty("connectTimeout", "30000");
+        ds.addConnectionProperty("socketTimeout", "60000");
+
+        return ds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Connection connection = super.getConnection();
+            borrowLatency.recordSince(start);
+            return connection;
+        } catch (SQLException e) {
+            borrowFailures.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Get borrow latency histogram
+     */
+    public LatencyHistogram getBorrowLatency() {
+        return borrowLatency;
+    }
+
+    /**
+     * Get live pool metrics
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("active", getNumActive());
+        metrics.put("idle", getNumIdle());
+        metrics.put("maxTotal", getMaxTotal());
+        metrics.put("maxWaitMillis", getMaxWaitMillis());
+        metrics.put("borrowFailures", borrowFailures.sum());
+
+        // Pool-side wait statistics (available once the pool has been created)
+        GenericObjectPool<PoolableConnection> pool = getConnectionPool();
+        if (pool != null) {
+            metrics.put("waiters", pool.getNumWaiters());
+            metrics.put("meanBorrowWaitMillis", pool.getMeanBorrowWaitTimeMillis());
+            metrics.put("maxBorrowWaitMillis", pool.getMaxBorrowWaitTimeMillis());
+        }
+        metrics.put("borrowLatency", borrowLatency.snapshot().toMap());
+        return metrics;
+    }
+
+    // ===== Helper Methods =====
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long longProperty(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        try {
+            return value != null ? Long.parseLong(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
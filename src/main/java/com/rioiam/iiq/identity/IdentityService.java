@@ -1,5 +1,7 @@
 package com.rioiam.iiq.identity;
 
+import com.rioiam.iiq.context.AsyncContextExecutor;
+import com.rioiam.iiq.context.BatchResult;
 import com.rioiam.iiq.context.IIQRemoteContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,7 +11,10 @@ import sailpoint.api.SailPointContext;
 import sailpoint.object.Identity;
 import sailpoint.tools.GeneralException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for managing SailPoint identities in tests.
@@ -19,6 +24,7 @@ import java.util.Map;
  * - Retrieving identities
  * - Updating identity attributes
  * - Deleting test identities
+ * - Bulk creation in batched transactions
  *
  * Reuses existing IIQRemoteContext for SailPoint connectivity.
  */
@@ -30,6 +36,9 @@ public class IdentityService {
     @Autowired
     private IIQRemoteContext remoteContext;
 
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
     /**
      * Create a test identity with the given attributes.
      *
@@ -69,6 +78,7 @@ public class IdentityService {
             context.startTransaction();
             context.saveObject(identity);
             context.commitTransaction();
+            remoteContext.invalidate(identity);
 
             logger.info("✓ Test identity created successfully");
             logger.info("  ID: {}", identity.getId());
@@ -87,6 +97,58 @@ public class IdentityService {
         }
     }
 
+    /**
+     * Create many test identities in batched transactions.
+     *
+     * Identities are committed in chunks (iiq.context.batch.size / commitIntervalMillis)
+     * instead of one transaction each; a failing identity is reported in the result
+     * without aborting the rest. Existing identities are returned as-is.
+     *
+     * @param identities Map of identity name to attributes (may be null per identity)
+     * @return Per-identity outcomes, in map iteration order
+     */
+    public BatchResult<Identity> createTestIdentities(Map<String, Map<String, Object>> identities) {
+        logger.info("========================================");
+        logger.info("Creating {} test identities in batches", identities.size());
+        logger.info("========================================");
+
+        List<IIQRemoteContext.ContextOperation<Identity>> operations = new ArrayList<>(identities.size());
+        for (Map.Entry<String, Map<String, Object>> entry : identities.entrySet()) {
+            String name = entry.getKey();
+            Map<String, Object> attributes = entry.getValue();
+            operations.add(context -> {
+                Identity existing = context.getObjectByName(Identity.class, name);
+                if (existing != null) {
+                    return existing;
+                }
+
+                Identity identity = new Identity();
+                identity.setName(name);
+                if (attributes != null) {
+                    for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                        identity.setAttribute(attribute.getKey(), attribute.getValue());
+                    }
+                }
+                context.saveObject(identity);
+                return identity;
+            });
+        }
+
+        BatchResult<Identity> result = remoteContext.executeBatch(operations);
+        for (String name : identities.keySet()) {
+            remoteContext.invalidate(Identity.class, name);
+        }
+
+        for (BatchResult.ItemResult<Identity> failure : result.getFailures()) {
+            logger.error("✗ Error creating test identity #{}: {}", failure.getIndex(),
+                failure.getError() != null ? failure.getError().getMessage() : "unknown");
+        }
+        logger.info("✓ Created {}/{} test identities in {} commits ({}ms)",
+            result.getSuccessCount(), result.getTotalCount(), result.getCommits(), result.getDurationMillis());
+
+        return result;
+    }
+
     /**
      * Get an identity by name.
      *
@@ -148,6 +210,7 @@ public class IdentityService {
             context.startTransaction();
             context.saveObject(identity);
             context.commitTransaction();
+            remoteContext.invalidate(identity);
 
             logger.info("✓ Identity updated successfully: {}", name);
             return true;
@@ -186,6 +249,7 @@ public class IdentityService {
             context.startTransaction();
             context.removeObject(identity);
             context.commitTransaction();
+            remoteContext.invalidate(Identity.class, name);
 
             logger.info("✓ Test identity deleted successfully: {}", name);
             return true;
@@ -246,6 +310,7 @@ public class IdentityService {
             context.startTransaction();
             context.saveObject(identity);
             context.commitTransaction();
+            remoteContext.invalidate(identity);
 
             logger.info("✓ Test identity created with manager");
             return identity;
@@ -260,4 +325,28 @@ public class IdentityService {
             return null;
         }
     }
+
+    // ===== Async API =====
+    // Each call runs on the async executor with its own leased context.
+
+    /**
+     * Asynchronous variant of {@link #createTestIdentity(String, Map)}
+     */
+    public CompletableFuture<Identity> createTestIdentityAsync(String name, Map<String, Object> attributes) {
+        return asyncExecutor.supplyAsync(() -> createTestIdentity(name, attributes));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateIdentity(String, Map)}
+     */
+    public CompletableFuture<Boolean> updateIdentityAsync(String name, Map<String, Object> attributes) {
+        return asyncExecutor.supplyAsync(() -> updateIdentity(name, attributes));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteIdentity(String)}
+     */
+    public CompletableFuture<Boolean> deleteIdentityAsync(String name) {
+        return asyncExecutor.supplyAsync(() -> deleteIdentity(name));
+    }
 }
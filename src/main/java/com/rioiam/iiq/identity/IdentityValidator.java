@@ -1,11 +1,13 @@
 package com.rioiam.iiq.identity;
 
 import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import sailpoint.api.SailPointContext;
+import sailpoint.object.Filter;
 import sailpoint.object.Identity;
 import sailpoint.tools.GeneralException;
 
@@ -19,6 +21,8 @@ import java.util.Map;
  * - Validating identity status (active/inactive)
  * - Validating identity links and entitlements
  *
+ * Single-field checks use column projections instead of loading the full identity.
+ *
  * Reuses existing IIQRemoteContext for SailPoint connectivity.
  */
 @Component
@@ -26,9 +30,14 @@ public class IdentityValidator {
 
     private static final Logger logger = LoggerFactory.getLogger(IdentityValidator.class);
 
+    private static final String STATUS_ATTRIBUTE = "vf_id_status";
+
     @Autowired
     private IIQRemoteContext remoteContext;
 
+    // Cleared once the status attribute turns out not to be searchable
+    private volatile boolean statusProjectable = true;
+
     /**
      * Validate that an identity has the expected attributes.
      *
@@ -101,17 +110,25 @@ public class IdentityValidator {
     public boolean validateStatus(String identityName, String expectedStatus) {
         logger.info("Validating status for identity: {} (expected: {})", identityName, expectedStatus);
 
-        SailPointContext context = remoteContext.getContext();
-
         try {
-            Identity identity = context.getObjectByName(Identity.class, identityName);
+            String actualStatus;
+            ProjectionRow row = statusProjectable ? projectStatus(identityName) : null;
 
-            if (identity == null) {
+            if (row != null) {
+                actualStatus = row.getString(STATUS_ATTRIBUTE);
+            } else if (statusProjectable) {
                 logger.error("✗ Identity not found: {}", identityName);
                 return false;
+            } else {
+                // Status attribute is not searchable: load the full identity
+                Identity identity = remoteContext.getContext().getObjectByName(Identity.class, identityName);
+                if (identity == null) {
+                    logger.error("✗ Identity not found: {}", identityName);
+                    return false;
+                }
+                actualStatus = (String) identity.getAttribute(STATUS_ATTRIBUTE);
             }
 
-            String actualStatus = (String) identity.getAttribute("vf_id_status");
             logger.debug("  Expected status: {}", expectedStatus);
             logger.debug("  Actual status: {}", actualStatus);
 
@@ -143,11 +160,9 @@ public class IdentityValidator {
     public boolean identityExists(String identityName) {
         logger.debug("Checking if identity exists: {}", identityName);
 
-        SailPointContext context = remoteContext.getContext();
-
         try {
-            Identity identity = context.getObjectByName(Identity.class, identityName);
-            boolean exists = (identity != null);
+            boolean exists = remoteContext.projectOne(Identity.class,
+                Filter.eq("name", identityName), "id") != null;
 
             if (exists) {
                 logger.debug("✓ Identity exists: {}", identityName);
@@ -173,21 +188,20 @@ public class IdentityValidator {
     public boolean validateInactiveFlag(String identityName, boolean expectedInactive) {
         logger.info("Validating inactive flag for identity: {} (expected: {})", identityName, expectedInactive);
 
-        SailPointContext context = remoteContext.getContext();
-
         try {
-            Identity identity = context.getObjectByName(Identity.class, identityName);
+            ProjectionRow row = remoteContext.projectOne(Identity.class,
+                Filter.eq("name", identityName), "inactive");
 
-            if (identity == null) {
+            if (row == null) {
                 logger.error("✗ Identity not found: {}", identityName);
                 return false;
             }
 
-            Boolean actualInactive = identity.isInactive();
+            boolean actualInactive = row.getBoolean("inactive");
             logger.debug("  Expected inactive: {}", expectedInactive);
             logger.debug("  Actual inactive: {}", actualInactive);
 
-            if (expectedInactive != (actualInactive != null && actualInactive)) {
+            if (expectedInactive != actualInactive) {
                 logger.warn("✗ Inactive flag mismatch: expected '{}', got '{}'", expectedInactive, actualInactive);
                 return false;
             }
@@ -200,4 +214,26 @@ public class IdentityValidator {
             return false;
         }
     }
+
+    /**
+     * Project the status attribute of an identity without loading it.
+     * If the attribute is not searchable the query fails to resolve it; projection is then
+     * disabled and callers fall back to loading the identity. Any other failure (lost
+     * connection, open circuit breaker) is rethrown and projection stays enabled.
+     *
+     * @return Row with "id" and the status, or null if not found or not projectable
+     */
+    private ProjectionRow projectStatus(String identityName) throws GeneralException {
+        try {
+            return remoteContext.projectOne(Identity.class,
+                Filter.eq("name", identityName), "id", STATUS_ATTRIBUTE);
+        } catch (GeneralException | RuntimeException e) {
+            if (!IIQRemoteContext.isUnresolvedProperty(e)) {
+                throw e;
+            }
+            logger.warn("⚠ '{}' cannot be projected, loading identities instead: {}", STATUS_ATTRIBUTE, e.getMessage());
+            statusProjectable = false;
+            return null;
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package com.rioiam.iiq.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram.
+ *
+ * Values are recorded in nanoseconds into log-linear buckets (16 sub-buckets per
+ * power of two, roughly 6% relative precision), so recording is a single atomic
+ * increment and percentiles can be read at any time without stopping writers.
+ *
+ * @author RIOIAM Framework
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record a latency measured in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Record the time elapsed since startNanos (from System.nanoTime())
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Take a point-in-time snapshot of the histogram
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        long max = maxNanos.get();
+        long mean = total > 0 ? totalNanos.sum() / total : 0;
+        return new Snapshot(total, mean,
+            percentile(counts, total, 0.50, max),
+            percentile(counts, total, 0.95, max),
+            percentile(counts, total, 0.99, max),
+            max);
+    }
+
+    /**
+     * Clear all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    // ===== Helper Methods =====
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long upper = ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+        return upper > 0 ? upper : Long.MAX_VALUE;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Immutable view of a histogram at a point in time.
+     * Getters return milliseconds; raw nanosecond values are also available.
+     */
+    public static final class Snapshot {
+        private final long count;
+        private final long meanNanos;
+        private final long p50Nanos;
+        private final long p95Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        Snapshot(long count, long meanNanos, long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {
+            this.count = count;
+            this.meanNanos = meanNanos;
+            this.p50Nanos = p50Nanos;
+            this.p95Nanos = p95Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMillis() {
+            return toMillis(meanNanos);
+        }
+
+        public double getP50Millis() {
+            return toMillis(p50Nanos);
+        }
+
+        public double getP95Millis() {
+            return toMillis(p95Nanos);
+        }
+
+        public double getP99Millis() {
+            return toMillis(p99Nanos);
+        }
+
+        public double getMaxMillis() {
+            return toMillis(maxNanos);
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP95Nanos() {
+            return p95Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Convert to a map suitable for statistics output
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("meanMs", getMeanMillis());
+            map.put("p50Ms", getP50Millis());
+            map.put("p95Ms", getP95Millis());
+            map.put("p99Ms", getP99Millis());
+            map.put("maxMs", getMaxMillis());
+            return map;
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, mean=%.3fms, p50=%.3fms, p95=%.3fms, p99=%.3fms, max=%.3fms",
+                count, getMeanMillis(), getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.rioiam.iiq.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free per-operation metrics.
+ *
+ * Each named operation keeps a call counter, an error counter and a latency
+ * histogram. Counters are striped (LongAdder) so that recording from many
+ * threads never contends on a single memory location.
+ *
+ * Usage:
+ * <pre>
+ * long start = System.nanoTime();
+ * boolean success = false;
+ * try {
+ *     ...
+ *     success = true;
+ * } finally {
+ *     metrics.record("getIdentity", start, success);
+ * }
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+public class OperationMetrics {
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Record one call of an operation
+     *
+     * @param operation Operation name
+     * @param startNanos Start time from System.nanoTime()
+     * @param success Whether the call completed without error
+     */
+    public void record(String operation, long startNanos, boolean success) {
+        OperationStats stats = operations.computeIfAbsent(operation, name -> new OperationStats());
+        stats.calls.increment();
+        if (!success) {
+            stats.errors.increment();
+        }
+        stats.latency.recordSince(startNanos);
+    }
+
+    /**
+     * Total number of recorded calls across all operations
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (OperationStats stats : operations.values()) {
+            total += stats.calls.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Take a point-in-time snapshot of all operations, sorted by name
+     */
+    public Snapshot snapshot() {
+        Map<String, OperationSnapshot> result = new TreeMap<>();
+        for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+            OperationStats stats = entry.getValue();
+            result.put(entry.getKey(), new OperationSnapshot(entry.getKey(),
+                stats.calls.sum(), stats.errors.sum(), stats.latency.snapshot()));
+        }
+        return new Snapshot(result);
+    }
+
+    /**
+     * Clear all recorded metrics
+     */
+    public void reset() {
+        operations.clear();
+    }
+
+    private static final class OperationStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    /**
+     * Snapshot of all operations
+     */
+    public static final class Snapshot {
+        private final Map<String, OperationSnapshot> operations;
+
+        Snapshot(Map<String, OperationSnapshot> operations) {
+            this.operations = Collections.unmodifiableMap(operations);
+        }
+
+        public Map<String, OperationSnapshot> getOperations() {
+            return operations;
+        }
+
+        /**
+         * Get snapshot of a single operation, or null if it was never recorded
+         */
+        public OperationSnapshot get(String operation) {
+            return operations.get(operation);
+        }
+
+        @Override
+        public String toString() {
+            return operations.values().toString();
+        }
+    }
+
+    /**
+     * Snapshot of a single operation
+     */
+    public static final class OperationSnapshot {
+        private final String name;
+        private final long count;
+        private final long errors;
+        private final LatencyHistogram.Snapshot latency;
+
+        OperationSnapshot(String name, long count, long errors, LatencyHistogram.Snapshot latency) {
+            this.name = name;
+            this.count = count;
+            this.errors = errors;
+            this.latency = latency;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * Convert to a map suitable for statistics output
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("errors", errors);
+            map.put("latency", latency.toMap());
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[errors=%d, %s]", name, errors, latency);
+        }
+    }
+}
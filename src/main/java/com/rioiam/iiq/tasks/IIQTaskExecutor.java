@@ -1,6 +1,7 @@
 package com.rioiam.iiq.tasks;
 
 import com.rioiam.iiq.config.EnvironmentConfig;
+import com.rioiam.iiq.context.AsyncContextExecutor;
 import com.rioiam.iiq.context.IIQRemoteContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +15,7 @@ import sailpoint.tools.GeneralException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Executes any IIQ Task by name using the remote context.
@@ -31,6 +33,9 @@ public class IIQTaskExecutor {
     @Autowired
     private EnvironmentConfig environmentConfig;
 
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
     /**
      * Executes a task by its name and waits for completion.
      * This method directly executes the task using Tasker.runTask() instead of scheduling it.
@@ -257,4 +262,23 @@ public class IIQTaskExecutor {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    // ===== Async API =====
+
+    /**
+     * Asynchronous variant of {@link #executeTaskByName(String, Map)}.
+     * Runs on the async executor with its own leased context.
+     *
+     * @return Future of the TaskResult (null if execution failed)
+     */
+    public CompletableFuture<TaskResult> executeTaskByNameAsync(String taskName, Map<String, Object> taskArguments) {
+        return asyncExecutor.supplyAsync(() -> executeTaskByName(taskName, taskArguments));
+    }
+
+    /**
+     * Asynchronous variant of {@link #pollForTaskResult(String, int)}
+     */
+    public CompletableFuture<TaskResult> pollForTaskResultAsync(String resultName, int maxWaitSeconds) {
+        return asyncExecutor.supplyAsync(() -> pollForTaskResult(resultName, maxWaitSeconds));
+    }
+}
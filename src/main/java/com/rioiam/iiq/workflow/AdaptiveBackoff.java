@@ -0,0 +1,78 @@
+package com.rioiam.iiq.workflow;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adaptive poll delay: starts at a few milliseconds and grows geometrically up to a cap.
+ *
+ * Short workflows are noticed almost immediately, while long-running ones are
+ * polled at most every maxDelayMillis. A small random jitter keeps many pollers
+ * from hitting the database in lock-step.
+ *
+ * Not thread-safe; use one instance per polling loop.
+ *
+ * @author RIOIAM Framework
+ */
+public class AdaptiveBackoff {
+
+    private static final double JITTER = 0.1;
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final double multiplier;
+
+    private double currentDelay;
+    private int attempts;
+
+    /**
+     * @param initialDelayMillis First delay
+     * @param maxDelayMillis Upper bound for the delay
+     * @param multiplier Growth factor per attempt (values below 1 are treated as 1)
+     */
+    public AdaptiveBackoff(long initialDelayMillis, long maxDelayMillis, double multiplier) {
+        this.initialDelayMillis = Math.max(1, initialDelayMillis);
+        this.maxDelayMillis = Math.max(this.initialDelayMillis, maxDelayMillis);
+        this.multiplier = Math.max(1.0, multiplier);
+        reset();
+    }
+
+    /**
+     * Get the next delay and advance the backoff
+     */
+    public long nextDelayMillis() {
+        long delay = Math.round(currentDelay * (1.0 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER)));
+        currentDelay = Math.min(currentDelay * multiplier, maxDelayMillis);
+        attempts++;
+        return Math.max(1, Math.min(delay, maxDelayMillis));
+    }
+
+    /**
+     * Sleep for the next delay, but never past the deadline
+     *
+     * @param deadlineMillis Absolute deadline (System.currentTimeMillis())
+     * @return false if the deadline has already passed
+     */
+    public boolean sleepUntilNext(long deadlineMillis) throws InterruptedException {
+        long remaining = deadlineMillis - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return false;
+        }
+        Thread.sleep(Math.min(nextDelayMillis(), remaining));
+        return true;
+    }
+
+    /**
+     * Start again from the initial delay, e.g. after progress was observed
+     */
+    public void reset() {
+        currentDelay = initialDelayMillis;
+        attempts = 0;
+    }
+
+    /**
+     * Number of delays handed out since the last reset
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,671 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.AsyncContextExecutor;
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.metrics.OperationMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import sailpoint.api.SailPointContext;
+import sailpoint.api.Workflower;
+import sailpoint.object.ApprovalItem;
+import sailpoint.object.ApprovalSet;
+import sailpoint.object.Identity;
+import sailpoint.object.WorkItem;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Applies declarative approval policies to the approval work items of workflow cases.
+ *
+ * A policy is an ordered list of rules; the first rule matching an approval decides it.
+ * Rules match on approval level, work item owner, owning workgroup and ApprovalItem
+ * properties (application, name, value, operation, nativeIdentity or any item attribute),
+ * and decide APPROVE, REJECT, DELEGATE (forward the work item) or PASS (leave undecided).
+ * Rules are evaluated per ApprovalItem, so one work item can get mixed decisions.
+ *
+ * A work item is only completed, and its workflow advanced through Workflower, when every
+ * item is approved or rejected. If any item is passed, the decided items are recorded on
+ * the approval set, the work item stays Pending for a human, and the policy stops for
+ * that case. Delegation forwards the work item through Workflower.forward().
+ *
+ * Cases are processed concurrently on the async executor, each level being picked up as
+ * soon as it is created (see WorkItemHandler.handleAllApprovals). The time to apply each
+ * decision is recorded per outcome.
+ *
+ * Usage:
+ * <pre>
+ * ApprovalPolicy policy = ApprovalPolicy.of(
+ *         PolicyRule.forItem("application", "Active Directory").item("name", "memberOf").reject("SoD"),
+ *         PolicyRule.forWorkgroup("IT Security").delegate("security.lead"),
+ *         PolicyRule.atLevel(1).approve())
+ *     .otherwise(Decision.APPROVE);
+ * PolicyReport report = policyEngine.applyAll(caseNames, policy, 30, 5);
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class ApprovalPolicyEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalPolicyEngine.class);
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Autowired
+    private WorkItemHandler workItemHandler;
+
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
+    /**
+     * What a rule does with a matching approval
+     */
+    public enum Decision {
+        APPROVE, REJECT, DELEGATE, PASS
+    }
+
+    /**
+     * Apply a policy to the approvals of many workflow cases concurrently
+     *
+     * @param workflowCaseIds IDs or names of the workflow cases
+     * @param policy Policy to apply
+     * @param maxWaitSeconds Maximum seconds to wait for each approval level
+     * @param maxApprovalLevels Maximum approval levels per case (safety limit)
+     * @return Decisions per case and latency per decision outcome
+     */
+    public PolicyReport applyAll(Collection<String> workflowCaseIds, ApprovalPolicy policy,
+                                 int maxWaitSeconds, int maxApprovalLevels) {
+        logger.info("========================================");
+        logger.info("Applying approval policy to {} workflow cases ({} rules)", workflowCaseIds.size(), policy.rules.size());
+        logger.info("========================================");
+
+        OperationMetrics metrics = new OperationMetrics();
+        long startTime = System.currentTimeMillis();
+
+        List<CompletableFuture<CaseOutcome>> futures = new ArrayList<>(workflowCaseIds.size());
+        for (String caseId : workflowCaseIds) {
+            futures.add(asyncExecutor.supplyAsync(() -> apply(caseId, policy, maxWaitSeconds, maxApprovalLevels, metrics))
+                .exceptionally(error -> {
+                    CaseOutcome outcome = new CaseOutcome(caseId);
+                    outcome.error = error.getMessage();
+                    return outcome;
+                }));
+        }
+
+        PolicyReport report = new PolicyReport(AsyncContextExecutor.allOf(futures).join(), metrics.snapshot(),
+            System.currentTimeMillis() - startTime);
+        logger.info("✓ {}", report);
+        return report;
+    }
+
+    /**
+     * Apply a policy to the approvals of one workflow case on the calling thread
+     */
+    public CaseOutcome apply(String workflowCaseId, ApprovalPolicy policy, int maxWaitSeconds, int maxApprovalLevels) {
+        return apply(workflowCaseId, policy, maxWaitSeconds, maxApprovalLevels, new OperationMetrics());
+    }
+
+    // ===== Helper Methods =====
+
+    private CaseOutcome apply(String workflowCaseId, ApprovalPolicy policy, int maxWaitSeconds,
+                              int maxApprovalLevels, OperationMetrics metrics) {
+        CaseOutcome outcome = new CaseOutcome(workflowCaseId);
+        long deadline = System.currentTimeMillis() + maxApprovalLevels * maxWaitSeconds * 1000L;
+        Set<String> handledIds = new HashSet<>();
+        Set<String> delegatedIds = new HashSet<>();
+
+        try {
+            int level = 1;
+            while (level <= maxApprovalLevels) {
+                long waitStart = System.nanoTime();
+                WorkItem approval = workItemHandler.awaitNextApproval(workflowCaseId, handledIds, maxWaitSeconds, deadline);
+                if (approval == null) {
+                    break;
+                }
+                metrics.record("wait", waitStart, true);
+
+                // A work item is delegated at most once; afterwards delegate rules count as PASS
+                boolean allowDelegate = !delegatedIds.contains(approval.getId());
+                long start = System.nanoTime();
+                DecisionRecord record = decide(approval.getId(), level, policy, allowDelegate);
+                metrics.record(record.outcome, start, record.isSuccess());
+                outcome.decisions.add(record);
+                logger.debug("{}: {}", workflowCaseId, record);
+
+                if (!record.isSuccess()) {
+                    outcome.error = record.error;
+                    break;
+                }
+                if ("delegate".equals(record.outcome)) {
+                    // The same work item comes back with its new owner
+                    delegatedIds.add(approval.getId());
+                    continue;
+                }
+                if (record.isPending()) {
+                    // Left for a human: the case cannot advance past this work item
+                    logger.debug("{}: work item {} left pending, policy stops", workflowCaseId, approval.getId());
+                    break;
+                }
+                handledIds.add(approval.getId());
+                level++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome.error = "Interrupted";
+        }
+        return outcome;
+    }
+
+    /**
+     * Evaluate the policy against one approval work item and persist the result.
+     * The work item is completed and its workflow advanced only if no item was passed.
+     */
+    private DecisionRecord decide(String workItemId, int level, ApprovalPolicy policy, boolean allowDelegate) {
+        DecisionRecord record = new DecisionRecord(workItemId, level);
+        try {
+            remoteContext.execute(context -> {
+                WorkItem workItem = context.getObjectById(WorkItem.class, workItemId);
+                if (workItem == null) {
+                    throw new GeneralException("Work item not found: " + workItemId);
+                }
+                Identity owner = workItem.getOwner();
+                record.owner = owner != null ? owner.getName() : null;
+
+                ApprovalSet approvalSet = (ApprovalSet) workItem.get("approvalSet");
+                List<ApprovalItem> items = approvalSet != null && approvalSet.getItems() != null
+                    ? approvalSet.getItems() : Collections.singletonList((ApprovalItem) null);
+
+                // Decide every item first: delegation applies to the whole work item
+                List<PolicyRule> matched = new ArrayList<>(items.size());
+                for (ApprovalItem item : items) {
+                    PolicyRule rule = policy.match(level, owner, item);
+                    matched.add(rule);
+                    if (rule != null && rule.decision == Decision.DELEGATE && allowDelegate) {
+                        delegate(context, workItem, rule);
+                        record.outcome = "delegate";
+                        record.delegatedTo = rule.delegateTo;
+                        return null;
+                    }
+                }
+
+                String comments = null;
+                for (int i = 0; i < items.size(); i++) {
+                    ApprovalItem item = items.get(i);
+                    PolicyRule rule = matched.get(i);
+                    Decision decision = rule != null ? rule.decision : policy.defaultDecision;
+                    if (decision == Decision.DELEGATE) {
+                        decision = Decision.PASS;
+                    }
+                    if (rule != null && comments == null) {
+                        comments = rule.comments;
+                    }
+                    if (decision == Decision.APPROVE) {
+                        record.approved++;
+                        if (item != null) {
+                            item.approve();
+                            item.setState(WorkItem.State.Finished);
+                        }
+                    } else if (decision == Decision.REJECT) {
+                        record.rejected++;
+                        if (item != null) {
+                            item.reject();
+                            item.setState(WorkItem.State.Finished);
+                        }
+                    } else {
+                        record.passed++;
+                    }
+                }
+
+                if (record.approved == 0 && record.rejected == 0) {
+                    record.outcome = "pass";
+                    return null;
+                }
+                if (record.passed > 0) {
+                    // Keep the decided items on the approval set; the work item stays open for the rest
+                    record.outcome = "partial";
+                    workItem.put("approvalSet", approvalSet);
+                    context.saveObject(workItem);
+                    return null;
+                }
+
+                record.outcome = record.rejected == 0 ? "approve" : record.approved == 0 ? "reject" : "mixed";
+                workItem.setState(record.approved == 0 ? WorkItem.State.Rejected : WorkItem.State.Finished);
+                workItem.setCompletionComments(comments != null ? comments
+                    : "Decided by approval policy - Level " + level + " (" + record.outcome + ")");
+                context.saveObject(workItem);
+
+                // Advance the workflow past this approval, as completeFormWorkItem() does
+                if (workItem.getWorkflowCase() != null) {
+                    new Workflower(context).process(workItem, true);
+                }
+                return null;
+            });
+        } catch (GeneralException | RuntimeException e) {
+            record.outcome = "error";
+            record.error = e.getMessage();
+            logger.error("✗ Failed to apply approval policy to work item {}: {}", workItemId, e.getMessage());
+        }
+        return record;
+    }
+
+    private void delegate(SailPointContext context, WorkItem workItem, PolicyRule rule) throws GeneralException {
+        Identity delegate = context.getObjectByName(Identity.class, rule.delegateTo);
+        if (delegate == null) {
+            throw new GeneralException("Delegate not found: " + rule.delegateTo);
+        }
+        Identity requester = context.getObjectByName(Identity.class, context.getUserName());
+        new Workflower(context).forward(workItem, requester, delegate,
+            rule.comments != null ? rule.comments : "Delegated by approval policy", false);
+    }
+
+    private static boolean matchesValue(Object actual, Object expected) {
+        if (actual == null || expected == null) {
+            return actual == expected;
+        }
+        if (actual instanceof Collection) {
+            for (Object value : (Collection<?>) actual) {
+                if (matchesValue(value, expected)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return String.valueOf(actual).equals(String.valueOf(expected));
+    }
+
+    private static Object itemProperty(ApprovalItem item, String property) {
+        switch (property) {
+            case "application":
+                return item.getApplication();
+            case "name":
+                return item.getName();
+            case "value":
+                return item.getValue();
+            case "operation":
+                return item.getOperation();
+            case "nativeIdentity":
+                return item.getNativeIdentity();
+            default:
+                return item.getAttributes() != null ? item.getAttributes().get(property) : null;
+        }
+    }
+
+    /**
+     * Ordered rules plus the decision for approvals no rule matches
+     */
+    public static final class ApprovalPolicy {
+        private final List<PolicyRule> rules;
+        private Decision defaultDecision = Decision.PASS;
+
+        private ApprovalPolicy(List<PolicyRule> rules) {
+            this.rules = rules;
+        }
+
+        public static ApprovalPolicy of(PolicyRule... rules) {
+            return new ApprovalPolicy(new ArrayList<>(Arrays.asList(rules)));
+        }
+
+        /**
+         * Decision for approvals no rule matches (default PASS). DELEGATE is treated as PASS.
+         */
+        public ApprovalPolicy otherwise(Decision decision) {
+            this.defaultDecision = decision;
+            return this;
+        }
+
+        public List<PolicyRule> getRules() {
+            return Collections.unmodifiableList(rules);
+        }
+
+        PolicyRule match(int level, Identity owner, ApprovalItem item) {
+            for (PolicyRule rule : rules) {
+                if (rule.matches(level, owner, item)) {
+                    return rule;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ApprovalPolicy[%s, otherwise %s]", rules, defaultDecision);
+        }
+    }
+
+    /**
+     * One policy rule. All set conditions must match; a rule with no conditions matches everything.
+     */
+    public static final class PolicyRule {
+        private Integer level;
+        private String owner;
+        private String workgroup;
+        private final Map<String, Object> itemProperties = new LinkedHashMap<>();
+        private Decision decision = Decision.APPROVE;
+        private String delegateTo;
+        private String comments;
+
+        public static PolicyRule always() {
+            return new PolicyRule();
+        }
+
+        public static PolicyRule atLevel(int level) {
+            return new PolicyRule().level(level);
+        }
+
+        public static PolicyRule forOwner(String owner) {
+            return new PolicyRule().owner(owner);
+        }
+
+        public static PolicyRule forWorkgroup(String workgroup) {
+            return new PolicyRule().workgroup(workgroup);
+        }
+
+        public static PolicyRule forItem(String property, Object value) {
+            return new PolicyRule().item(property, value);
+        }
+
+        public PolicyRule level(int level) {
+            this.level = level;
+            return this;
+        }
+
+        public PolicyRule owner(String owner) {
+            this.owner = owner;
+            return this;
+        }
+
+        public PolicyRule workgroup(String workgroup) {
+            this.workgroup = workgroup;
+            return this;
+        }
+
+        /**
+         * Match an ApprovalItem property: application, name, value, operation, nativeIdentity,
+         * or any other name to match an item attribute. Work items without an approval set
+         * never match item conditions.
+         */
+        public PolicyRule item(String property, Object value) {
+            this.itemProperties.put(property, value);
+            return this;
+        }
+
+        public PolicyRule comments(String comments) {
+            this.comments = comments;
+            return this;
+        }
+
+        public PolicyRule approve() {
+            this.decision = Decision.APPROVE;
+            return this;
+        }
+
+        public PolicyRule approve(String comments) {
+            return approve().comments(comments);
+        }
+
+        public PolicyRule reject() {
+            this.decision = Decision.REJECT;
+            return this;
+        }
+
+        public PolicyRule reject(String comments) {
+            return reject().comments(comments);
+        }
+
+        /**
+         * Forward the whole work item to another identity
+         */
+        public PolicyRule delegate(String identityName) {
+            this.decision = Decision.DELEGATE;
+            this.delegateTo = identityName;
+            return this;
+        }
+
+        public PolicyRule pass() {
+            this.decision = Decision.PASS;
+            return this;
+        }
+
+        public Decision getDecision() {
+            return decision;
+        }
+
+        boolean matches(int currentLevel, Identity currentOwner, ApprovalItem item) {
+            if (level != null && level != currentLevel) {
+                return false;
+            }
+            String ownerName = currentOwner != null ? currentOwner.getName() : null;
+            if (owner != null && !owner.equals(ownerName)) {
+                return false;
+            }
+            if (workgroup != null && (currentOwner == null || !currentOwner.isWorkgroup() || !workgroup.equals(ownerName))) {
+                return false;
+            }
+            if (!itemProperties.isEmpty()) {
+                if (item == null) {
+                    return false;
+                }
+                for (Map.Entry<String, Object> entry : itemProperties.entrySet()) {
+                    if (!matchesValue(itemProperty(item, entry.getKey()), entry.getValue())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder conditions = new StringBuilder();
+            if (level != null) {
+                conditions.append("level=").append(level).append(' ');
+            }
+            if (owner != null) {
+                conditions.append("owner=").append(owner).append(' ');
+            }
+            if (workgroup != null) {
+                conditions.append("workgroup=").append(workgroup).append(' ');
+            }
+            if (!itemProperties.isEmpty()) {
+                conditions.append("item=").append(itemProperties).append(' ');
+            }
+            return String.format("PolicyRule[%s-> %s%s]", conditions.length() > 0 ? conditions : "always ",
+                decision, delegateTo != null ? " " + delegateTo : "");
+        }
+    }
+
+    /**
+     * Decision applied to one approval work item
+     */
+    public static final class DecisionRecord {
+        private final String workItemId;
+        private final int level;
+        private String owner;
+        private String outcome;
+        private String delegatedTo;
+        private int approved;
+        private int rejected;
+        private int passed;
+        private String error;
+
+        DecisionRecord(String workItemId, int level) {
+            this.workItemId = workItemId;
+            this.level = level;
+        }
+
+        public String getWorkItemId() {
+            return workItemId;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        /**
+         * approve, reject, mixed, partial (some items passed), delegate, pass or error
+         */
+        public String getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * True if the work item was left Pending because at least one item was passed
+         */
+        public boolean isPending() {
+            return "pass".equals(outcome) || "partial".equals(outcome);
+        }
+
+        public String getDelegatedTo() {
+            return delegatedTo;
+        }
+
+        public int getApprovedItems() {
+            return approved;
+        }
+
+        public int getRejectedItems() {
+            return rejected;
+        }
+
+        public int getPassedItems() {
+            return passed;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Decision[level %d, %s, owner=%s: %s%s]", level, workItemId, owner, outcome,
+                delegatedTo != null ? " to " + delegatedTo : error != null ? " - " + error
+                    : String.format(" (approved=%d, rejected=%d, passed=%d)", approved, rejected, passed));
+        }
+    }
+
+    /**
+     * Decisions applied to one workflow case
+     */
+    public static final class CaseOutcome {
+        private final String workflowCaseId;
+        private final List<DecisionRecord> decisions = new ArrayList<>();
+        private String error;
+
+        CaseOutcome(String workflowCaseId) {
+            this.workflowCaseId = workflowCaseId;
+        }
+
+        public String getWorkflowCaseId() {
+            return workflowCaseId;
+        }
+
+        public List<DecisionRecord> getDecisions() {
+            return decisions;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("CaseOutcome[%s: %d decisions%s]", workflowCaseId, decisions.size(),
+                error != null ? ", error=" + error : "");
+        }
+    }
+
+    /**
+     * Outcome of applying a policy to many cases
+     */
+    public static final class PolicyReport {
+        private final List<CaseOutcome> cases;
+        private final OperationMetrics.Snapshot latency;
+        private final long durationMillis;
+
+        PolicyReport(List<CaseOutcome> cases, OperationMetrics.Snapshot latency, long durationMillis) {
+            this.cases = Collections.unmodifiableList(cases);
+            this.latency = latency;
+            this.durationMillis = durationMillis;
+        }
+
+        public List<CaseOutcome> getCases() {
+            return cases;
+        }
+
+        /**
+         * Latency per decision outcome (approve, reject, mixed, partial, delegate, pass, error) and of the waits between levels
+         */
+        public Map<String, OperationMetrics.OperationSnapshot> getLatency() {
+            return latency.getOperations();
+        }
+
+        /**
+         * Number of work items per decision outcome
+         */
+        public Map<String, Integer> getDecisionCounts() {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (CaseOutcome outcome : cases) {
+                for (DecisionRecord record : outcome.decisions) {
+                    counts.merge(record.outcome, 1, Integer::sum);
+                }
+            }
+            return counts;
+        }
+
+        public int getFailureCount() {
+            return (int) cases.stream().filter(outcome -> !outcome.isSuccess()).count();
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Summary suitable for statistics output
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("cases", cases.size());
+            summary.put("failed", getFailureCount());
+            summary.put("decisions", getDecisionCounts());
+            summary.put("durationMs", durationMillis);
+            Map<String, Object> latencyStats = new LinkedHashMap<>();
+            for (Map.Entry<String, OperationMetrics.OperationSnapshot> entry : getLatency().entrySet()) {
+                latencyStats.put(entry.getKey(), entry.getValue().toMap());
+            }
+            summary.put("latency", latencyStats);
+            return summary;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PolicyReport[cases=%d, failed=%d, decisions=%s, duration=%dms]",
+                cases.size(), getFailureCount(), getDecisionCounts(), durationMillis);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
+import com.rioiam.iiq.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Filter;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.Request;
+import sailpoint.object.TaskResult;
+import sailpoint.object.WorkflowCase;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks Requests queued by ServerSideWorkflowLauncher until the IIQ request
+ * processor has handled them, and resolves each to the WorkflowCase and TaskResult
+ * it produced.
+ *
+ * Outstanding requests are polled together: one projection query (id, launched,
+ * completed) per workflow.poll.batchSize requests per tick, on the same
+ * adaptive backoff as the workflow status poller. A request counts as processed
+ * once it has a completed date or has been removed by the request processor.
+ *
+ * Metrics:
+ * - queueWait: request created until the processor launched it
+ * - processing: request created until it was seen as processed
+ * - queueDepth: Requests not yet completed on the server
+ *
+ * Usage:
+ * <pre>
+ * BatchResult&lt;String&gt; queued = serverSideLauncher.queueWorkflowLaunches(name, launcher, vars);
+ * Map&lt;String, RequestOutcome&gt; outcomes = requestTracker.track(queued.getResults(), 600);
+ * requestTracker.getStatistics();
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class RequestCompletionTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestCompletionTracker.class);
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Value("${workflow.poll.initialDelayMillis:5}")
+    private long initialDelayMillis;
+
+    @Value("${workflow.poll.maxDelayMillis:1000}")
+    private long maxDelayMillis;
+
+    @Value("${workflow.poll.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${workflow.poll.batchSize:500}")
+    private int batchSize;
+
+    // Statistics
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram processing = new LatencyHistogram();
+    private final LongAdder tracked = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+
+    /**
+     * Wait until the given requests have been processed, or the timeout expires.
+     *
+     * @param requestIds Request IDs returned by ServerSideWorkflowLauncher
+     * @param timeoutSeconds Maximum time to wait for all of them
+     * @return Outcome per request ID, in the given order
+     */
+    public Map<String, RequestOutcome> track(Collection<String> requestIds, int timeoutSeconds) {
+        logger.info("Tracking {} server requests (timeout: {}s)", requestIds.size(), timeoutSeconds);
+
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + timeoutSeconds * 1000L;
+        Map<String, RequestOutcome> outcomes = new LinkedHashMap<>();
+
+        try {
+            for (RequestOutcome outcome : loadRequests(requestIds)) {
+                outcomes.put(outcome.requestId, outcome);
+            }
+            tracked.add(outcomes.size());
+
+            Map<String, RequestOutcome> pending = new LinkedHashMap<>(outcomes);
+            AdaptiveBackoff backoff = new AdaptiveBackoff(initialDelayMillis, maxDelayMillis, multiplier);
+
+            while (!pending.isEmpty()) {
+                List<RequestOutcome> done = tick(pending);
+                if (!done.isEmpty()) {
+                    resolveResults(done);
+                    backoff.reset();
+                }
+                if (pending.isEmpty() || !backoff.sleepUntilNext(deadline)) {
+                    break;
+                }
+            }
+
+            for (RequestOutcome outcome : pending.values()) {
+                outcome.timedOut = true;
+                timedOut.increment();
+            }
+
+        } catch (GeneralException e) {
+            logger.error("✗ Error tracking server requests", e);
+        } catch (InterruptedException e) {
+            logger.error("✗ Interrupted while tracking server requests", e);
+            Thread.currentThread().interrupt();
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        long completed = outcomes.values().stream().filter(RequestOutcome::isProcessed).count();
+        logger.info("✓ {}/{} server requests processed in {}ms ({} /s)", completed, outcomes.size(), duration,
+            duration > 0 ? Math.round(completed * 100000.0 / duration) / 100.0 : 0.0);
+        return outcomes;
+    }
+
+    /**
+     * Number of Requests on the server that have not completed yet
+     *
+     * @return Queue depth, or -1 if it could not be counted
+     */
+    public int getQueueDepth() {
+        try {
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(Filter.isnull("completed"));
+            return remoteContext.getContext().countObjects(Request.class, qo);
+        } catch (GeneralException e) {
+            logger.error("✗ Error counting queued requests", e);
+            return -1;
+        }
+    }
+
+    /**
+     * Get tracking statistics, queue depth and latency percentiles
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("tracked", tracked.sum());
+        stats.put("processed", processed.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("queueDepth", getQueueDepth());
+        stats.put("ticks", ticks.sum());
+        stats.put("queries", queries.sum());
+        stats.put("queueWait", queueWait.snapshot().toMap());
+        stats.put("processing", processing.snapshot().toMap());
+        return stats;
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * Read each request once, for its creation time and the case name it will launch
+     */
+    private List<RequestOutcome> loadRequests(Collection<String> requestIds) throws GeneralException {
+        List<String> ids = new ArrayList<>(requestIds);
+        Map<String, RequestOutcome> byId = new HashMap<>();
+        SailPointContext context = remoteContext.getContext();
+        int size = Math.max(1, batchSize);
+
+        for (int from = 0; from < ids.size(); from += size) {
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(Filter.in("id", new ArrayList<>(ids.subList(from, Math.min(from + size, ids.size())))));
+            queries.increment();
+            for (Request request : context.getObjects(Request.class, qo)) {
+                RequestOutcome outcome = new RequestOutcome(request.getId(), request.getName(), request.getCreated());
+                outcome.caseName = request.getAttributes() != null ? request.getAttributes().getString("caseName") : null;
+                outcome.launchedAt = request.getLaunched();
+                byId.put(request.getId(), outcome);
+            }
+            context.decache();
+        }
+
+        List<RequestOutcome> outcomes = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            // Requests already gone were processed before tracking started
+            RequestOutcome outcome = byId.get(id);
+            outcomes.add(outcome != null ? outcome : new RequestOutcome(id, null, null));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Poll all pending requests once
+     *
+     * @return Requests processed since the last tick (removed from pending)
+     */
+    private List<RequestOutcome> tick(Map<String, RequestOutcome> pending) throws GeneralException {
+        ticks.increment();
+        queries.add((pending.size() + Math.max(1, batchSize) - 1) / Math.max(1, batchSize));
+        Map<String, ProjectionRow> rows = remoteContext.projectByIds(Request.class, pending.keySet(),
+            "launched", "completed");
+
+        long now = System.currentTimeMillis();
+        List<RequestOutcome> done = new ArrayList<>();
+        for (RequestOutcome outcome : new ArrayList<>(pending.values())) {
+            ProjectionRow row = rows.get(outcome.requestId);
+            Date completed = row != null ? row.getDate("completed") : null;
+            if (row != null && outcome.launchedAt == null) {
+                outcome.launchedAt = row.getDate("launched");
+            }
+            if (row != null && completed == null) {
+                continue;
+            }
+
+            outcome.completedAt = completed != null ? completed : new Date(now);
+            pending.remove(outcome.requestId);
+            processed.increment();
+            record(outcome);
+            done.add(outcome);
+        }
+        return done;
+    }
+
+    private void record(RequestOutcome outcome) {
+        if (outcome.createdAt == null) {
+            return;
+        }
+        if (outcome.launchedAt != null) {
+            queueWait.record((outcome.launchedAt.getTime() - outcome.createdAt.getTime()) * 1_000_000L);
+        }
+        processing.record((outcome.completedAt.getTime() - outcome.createdAt.getTime()) * 1_000_000L);
+    }
+
+    /**
+     * Resolve processed requests to their WorkflowCase and TaskResult by case name
+     */
+    private void resolveResults(List<RequestOutcome> done) throws GeneralException {
+        Map<String, RequestOutcome> byCaseName = new HashMap<>();
+        for (RequestOutcome outcome : done) {
+            if (outcome.caseName != null) {
+                byCaseName.put(outcome.caseName, outcome);
+            }
+        }
+        if (byCaseName.isEmpty()) {
+            return;
+        }
+
+        List<String> names = new ArrayList<>(byCaseName.keySet());
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < names.size(); from += size) {
+            List<String> chunk = new ArrayList<>(names.subList(from, Math.min(from + size, names.size())));
+
+            QueryOptions caseQuery = new QueryOptions();
+            caseQuery.addFilter(Filter.in("name", chunk));
+            queries.increment();
+            for (ProjectionRow row : remoteContext.project(WorkflowCase.class, caseQuery, "id", "name")) {
+                RequestOutcome outcome = byCaseName.get(row.getString("name"));
+                if (outcome != null) {
+                    outcome.workflowCaseId = row.getString("id");
+                }
+            }
+
+            QueryOptions resultQuery = new QueryOptions();
+            resultQuery.addFilter(Filter.in("name", chunk));
+            queries.increment();
+            for (ProjectionRow row : remoteContext.project(TaskResult.class, resultQuery, "id", "name", "completionStatus")) {
+                RequestOutcome outcome = byCaseName.get(row.getString("name"));
+                if (outcome != null) {
+                    outcome.taskResultId = row.getString("id");
+                    outcome.completionStatus = row.getEnum("completionStatus", TaskResult.CompletionStatus.class);
+                }
+            }
+        }
+    }
+
+    /**
+     * What happened to a tracked request
+     */
+    public static final class RequestOutcome {
+        private final String requestId;
+        private final String requestName;
+        private final Date createdAt;
+        private String caseName;
+        private Date launchedAt;
+        private Date completedAt;
+        private boolean timedOut;
+        private String workflowCaseId;
+        private String taskResultId;
+        private TaskResult.CompletionStatus completionStatus;
+
+        RequestOutcome(String requestId, String requestName, Date createdAt) {
+            this.requestId = requestId;
+            this.requestName = requestName;
+            this.createdAt = createdAt;
+        }
+
+        public String getRequestId() {
+            return requestId;
+        }
+
+        public String getRequestName() {
+            return requestName;
+        }
+
+        /**
+         * Case name passed to the request, or null if it had none
+         */
+        public String getCaseName() {
+            return caseName;
+        }
+
+        public Date getCreatedAt() {
+            return createdAt;
+        }
+
+        public Date getLaunchedAt() {
+            return launchedAt;
+        }
+
+        /**
+         * Completion time, or the time the request was seen to be gone
+         */
+        public Date getCompletedAt() {
+            return completedAt;
+        }
+
+        public boolean isProcessed() {
+            return completedAt != null;
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * ID of the resulting workflow case, or null if it no longer exists
+         */
+        public String getWorkflowCaseId() {
+            return workflowCaseId;
+        }
+
+        public String getTaskResultId() {
+            return taskResultId;
+        }
+
+        /**
+         * Completion status of the resulting TaskResult, or null if unknown
+         */
+        public TaskResult.CompletionStatus getCompletionStatus() {
+            return completionStatus;
+        }
+
+        /**
+         * Time from creation to processing, or -1 if unknown
+         */
+        public long getProcessingMillis() {
+            return createdAt != null && completedAt != null ? completedAt.getTime() - createdAt.getTime() : -1;
+        }
+
+        @Override
+        public String toString() {
+            if (!isProcessed()) {
+                return String.format("RequestOutcome[%s: %s]", requestId, timedOut ? "timed out" : "pending");
+            }
+            return String.format("RequestOutcome[%s -> %s: %s in %dms]", requestId, caseName, completionStatus,
+                getProcessingMillis());
+        }
+    }
+}
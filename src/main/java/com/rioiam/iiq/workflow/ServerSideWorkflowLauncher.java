@@ -10,10 +10,13 @@ import sailpoint.object.Attributes;
 import sailpoint.object.Request;
 import sailpoint.object.RequestDefinition;
 import sailpoint.tools.GeneralException;
+import com.rioiam.iiq.context.BatchResult;
 import com.rioiam.iiq.context.IIQRemoteContext;
 
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Launches workflows on the IIQ server side using RequestManager.
@@ -24,9 +27,17 @@ public class ServerSideWorkflowLauncher {
 
     private static final Logger logger = LoggerFactory.getLogger(ServerSideWorkflowLauncher.class);
 
+    private static final String WORKFLOW_REQUEST_DEFINITION = "Workflow Request";
+
+    // Keep request names unique when several requests are queued within the same millisecond
+    private static final AtomicLong REQUEST_SEQUENCE = new AtomicLong();
+    private static final AtomicLong RUN_SEQUENCE = new AtomicLong();
+
     @Autowired
     private IIQRemoteContext remoteContext;
 
+    private volatile String requestDefinitionId;
+
     /**
      * Schedule a workflow to launch on the IIQ server.
      * This creates a Request that the IIQ server will process, ensuring proper WorkItem creation.
@@ -46,35 +57,11 @@ public class ServerSideWorkflowLauncher {
         SailPointContext context = remoteContext.getContext();
 
         try {
-            // Get or create the "Workflow Request" RequestDefinition
-            RequestDefinition reqDef = context.getObjectByName(RequestDefinition.class, "Workflow Request");
-
-            if (reqDef == null) {
-                logger.warn("'Workflow Request' RequestDefinition not found, creating a new one");
-                reqDef = new RequestDefinition();
-                reqDef.setName("Workflow Request");
-                reqDef.setExecutor("sailpoint.request.WorkflowRequestExecutor");
-                context.saveObject(reqDef);
-                context.commitTransaction();
-            }
-
-            // Set workflow-specific attributes
-            Attributes<String, Object> reqArgs = new Attributes<>();
-            reqArgs.put("workflow", workflowName);
-            reqArgs.put("launcher", launcher);
-
-            // Add all workflow variables
-            if (variables != null && !variables.isEmpty()) {
-                for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                    reqArgs.put(entry.getKey(), entry.getValue());
-                }
-            }
-
-            // Create the Request object
-            Request request = new Request();
-            request.setDefinition(reqDef);
-            request.setAttributes(reqDef, reqArgs);
-            request.setName("Launch-" + workflowName + "-" + System.currentTimeMillis());
+            RequestDefinition reqDef = getRequestDefinition(context);
+            // Named case, as in queueWorkflowLaunches(), so RequestCompletionTracker can resolve it
+            String suffix = System.currentTimeMillis() + "-" + REQUEST_SEQUENCE.incrementAndGet();
+            Request request = buildRequest(reqDef, workflowName, launcher, variables,
+                "Launch-" + workflowName + "-" + suffix, launcher + " - " + suffix);
 
             // Add the request using RequestManager
             RequestManager.addRequest(context, request);
@@ -91,4 +78,117 @@ public class ServerSideWorkflowLauncher {
             return null;
         }
     }
+
+    /**
+     * Queue many workflow launches on the IIQ server.
+     *
+     * The RequestDefinition is resolved once by ID and every Request gets a collision-free
+     * name and case name built from a run ID and a sequence number. Each Request is queued
+     * through RequestManager.addRequest(), exactly like launchWorkflowOnServer(), which
+     * commits it as soon as it is added; the requests therefore run one transaction each
+     * (IIQRemoteContext.executeEach()) and are never re-run. A failing request is reported
+     * without aborting the rest.
+     *
+     * @param workflowName Name of the workflow to launch
+     * @param launcher Identity name who launches the workflows
+     * @param variablesList Input variables, one map per launch
+     * @return Per-launch outcomes in order (results are the Request IDs),
+     *         or null if the RequestDefinition could not be resolved
+     */
+    public BatchResult<String> queueWorkflowLaunches(String workflowName, String launcher,
+                                                     List<Map<String, Object>> variablesList) {
+        logger.info("========================================");
+        logger.info("Queuing {} workflow launches on IIQ server", variablesList.size());
+        logger.info("Workflow: {}", workflowName);
+        logger.info("Launcher: {}", launcher);
+        logger.info("========================================");
+
+        String definitionId;
+        try {
+            definitionId = getRequestDefinition(remoteContext.getContext()).getId();
+        } catch (GeneralException e) {
+            logger.error("✗ Error resolving 'Workflow Request' RequestDefinition", e);
+            return null;
+        }
+
+        String runId = Long.toString(System.currentTimeMillis(), 36) + "-" + RUN_SEQUENCE.incrementAndGet();
+        List<IIQRemoteContext.ContextOperation<String>> operations = new ArrayList<>(variablesList.size());
+        int sequence = 0;
+        for (Map<String, Object> variables : variablesList) {
+            String suffix = runId + "-" + (++sequence);
+            operations.add(context -> {
+                // Resolved per request: the session is decached after each commit
+                RequestDefinition reqDef = context.getObjectById(RequestDefinition.class, definitionId);
+                Request request = buildRequest(reqDef, workflowName, launcher, variables,
+                    "Launch-" + workflowName + "-" + suffix, launcher + " - " + suffix);
+                RequestManager.addRequest(context, request);
+                return request.getId();
+            });
+        }
+
+        BatchResult<String> result = remoteContext.executeEach(operations);
+
+        for (BatchResult.ItemResult<String> failure : result.getFailures()) {
+            logger.error("✗ Error queuing workflow launch #{}: {}", failure.getIndex(),
+                failure.getError() != null ? failure.getError().getMessage() : "unknown");
+        }
+        logger.info("✓ Queued {}/{} workflow launch requests ({}ms, run {})",
+            result.getSuccessCount(), result.getTotalCount(), result.getDurationMillis(), runId);
+
+        return result;
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * Get the "Workflow Request" RequestDefinition, creating it if missing.
+     * Its ID is cached so later calls load it by ID instead of by name.
+     */
+    private RequestDefinition getRequestDefinition(SailPointContext context) throws GeneralException {
+        String cachedId = requestDefinitionId;
+        if (cachedId != null) {
+            RequestDefinition reqDef = context.getObjectById(RequestDefinition.class, cachedId);
+            if (reqDef != null) {
+                return reqDef;
+            }
+        }
+
+        RequestDefinition reqDef = context.getObjectByName(RequestDefinition.class, WORKFLOW_REQUEST_DEFINITION);
+
+        if (reqDef == null) {
+            logger.warn("'Workflow Request' RequestDefinition not found, creating a new one");
+            reqDef = new RequestDefinition();
+            reqDef.setName(WORKFLOW_REQUEST_DEFINITION);
+            reqDef.setExecutor("sailpoint.request.WorkflowRequestExecutor");
+            context.saveObject(reqDef);
+            context.commitTransaction();
+        }
+
+        requestDefinitionId = reqDef.getId();
+        return reqDef;
+    }
+
+    private Request buildRequest(RequestDefinition reqDef, String workflowName, String launcher,
+                                 Map<String, Object> variables, String requestName, String caseName) {
+        // Set workflow-specific attributes
+        Attributes<String, Object> reqArgs = new Attributes<>();
+        reqArgs.put("workflow", workflowName);
+        reqArgs.put("launcher", launcher);
+        if (caseName != null) {
+            reqArgs.put("caseName", caseName);
+        }
+
+        // Add all workflow variables
+        if (variables != null && !variables.isEmpty()) {
+            for (Map.Entry<String, Object> entry : variables.entrySet()) {
+                reqArgs.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        Request request = new Request();
+        request.setDefinition(reqDef);
+        request.setAttributes(reqDef, reqArgs);
+        request.setName(requestName);
+        return request;
+    }
 }
@@ -0,0 +1,232 @@
+package com.rioiam.iiq.workflow;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sailpoint.api.SailPointContext;
+import sailpoint.api.WorkflowSession;
+import sailpoint.object.ApprovalItem;
+import sailpoint.object.ApprovalSet;
+import sailpoint.object.Form;
+import sailpoint.object.TaskResult;
+import sailpoint.object.WorkItem;
+import sailpoint.object.WorkflowCase;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Handle on a workflow launched with {@link WorkflowExecutor#launchTransient}.
+ *
+ * Workflows with transient=true never persist their WorkItems, so they cannot be found
+ * with database queries (see WHY_TESTS_FAIL_TRANSIENT_WORKFLOW.md). This session keeps
+ * the in-memory WorkflowCase and current WorkItem returned by Workflower and advances
+ * the workflow in memory, the same way the IIQ UI does - no polling, no DB lookups.
+ *
+ * Usage:
+ * <pre>
+ * TransientWorkflowSession session = workflowExecutor.launchTransient(name, launcher, vars);
+ * session.completeForm(formData);        // Request Initiate form
+ * while (session.isApproval()) {
+ *     session.approve("Approved");
+ * }
+ * session.getCompletionStatus();
+ * </pre>
+ *
+ * A session is bound to the context it was launched on and is not thread-safe;
+ * use it on the launching thread (or while holding the same context lease).
+ *
+ * @author RIOIAM Framework
+ */
+public class TransientWorkflowSession {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransientWorkflowSession.class);
+
+    private final SailPointContext context;
+    private final WorkflowSession session;
+    private final String caseName;
+    private final List<WorkItem> capturedWorkItems = new ArrayList<>();
+
+    TransientWorkflowSession(SailPointContext context, WorkflowSession session, String caseName) {
+        this.context = context;
+        this.session = session;
+        this.caseName = caseName;
+        capture(session.getWorkItem());
+    }
+
+    /**
+     * Current in-memory work item, or null if the workflow is not waiting on one
+     */
+    public WorkItem getWorkItem() {
+        return session.getWorkItem();
+    }
+
+    public boolean hasWorkItem() {
+        return session.getWorkItem() != null;
+    }
+
+    public boolean isForm() {
+        return isType(WorkItem.Type.Form);
+    }
+
+    public boolean isApproval() {
+        return isType(WorkItem.Type.Approval);
+    }
+
+    /**
+     * In-memory workflow case (may have no ID while the workflow is transient)
+     */
+    public WorkflowCase getWorkflowCase() {
+        return session.getWorkflowCase();
+    }
+
+    public String getCaseName() {
+        WorkflowCase wfCase = getWorkflowCase();
+        return wfCase != null && wfCase.getName() != null ? wfCase.getName() : caseName;
+    }
+
+    /**
+     * Completion status of the case, or null while it is still running
+     */
+    public TaskResult.CompletionStatus getCompletionStatus() {
+        WorkflowCase wfCase = getWorkflowCase();
+        return wfCase != null ? wfCase.getCompletionStatus() : null;
+    }
+
+    /**
+     * True once the workflow no longer waits on a work item
+     */
+    public boolean isComplete() {
+        return !hasWorkItem();
+    }
+
+    /**
+     * Every work item the session has presented so far, in order
+     */
+    public List<WorkItem> getCapturedWorkItems() {
+        return Collections.unmodifiableList(capturedWorkItems);
+    }
+
+    /**
+     * Complete the current form work item and advance the workflow.
+     *
+     * @param formData Form field values (e.g., maModel data)
+     * @return The next work item, or null if the workflow has finished
+     */
+    public WorkItem completeForm(Map<String, Object> formData) throws GeneralException {
+        WorkItem workItem = requireWorkItem(WorkItem.Type.Form);
+        logger.info("Completing transient form: {} ({})", workItem.getName(), getCaseName());
+
+        if (formData != null) {
+            Form form = workItem.getForm();
+            for (Map.Entry<String, Object> entry : formData.entrySet()) {
+                logger.debug("  {}: {}", entry.getKey(), entry.getValue());
+                workItem.put(entry.getKey(), entry.getValue());
+                // Forms read their posted values from the fields, as the UI would submit them
+                if (form != null && form.getField(entry.getKey()) != null) {
+                    form.getField(entry.getKey()).setValue(entry.getValue());
+                }
+            }
+        }
+
+        workItem.setState(WorkItem.State.Finished);
+        workItem.setCompletionComments("Completed programmatically by test framework");
+        return advance();
+    }
+
+    /**
+     * Approve the current approval work item (all approval set items) and advance the workflow.
+     *
+     * @return The next work item, or null if the workflow has finished
+     */
+    public WorkItem approve(String comments) throws GeneralException {
+        WorkItem workItem = requireWorkItem(WorkItem.Type.Approval);
+        logger.info("Approving transient work item: {} ({})", workItem.getName(), getCaseName());
+        decide(workItem, true);
+        workItem.setState(WorkItem.State.Finished);
+        workItem.setCompletionComments(comments != null ? comments : "Approved programmatically by test framework");
+        return advance();
+    }
+
+    /**
+     * Reject the current approval work item (all approval set items) and advance the workflow.
+     *
+     * @return The next work item, or null if the workflow has finished
+     */
+    public WorkItem reject(String comments) throws GeneralException {
+        WorkItem workItem = requireWorkItem(WorkItem.Type.Approval);
+        logger.info("Rejecting transient work item: {} ({})", workItem.getName(), getCaseName());
+        decide(workItem, false);
+        workItem.setState(WorkItem.State.Finished);
+        workItem.setCompletionComments(comments != null ? comments : "Rejected programmatically by test framework");
+        return advance();
+    }
+
+    /**
+     * Hand the current work item back to Workflower as it stands and advance the workflow.
+     * Use this after modifying the work item directly.
+     *
+     * @return The next work item, or null if the workflow has finished
+     */
+    public WorkItem advance() throws GeneralException {
+        session.advance(context);
+        WorkItem next = session.getWorkItem();
+        capture(next);
+
+        if (next != null) {
+            logger.info("✓ Workflow advanced to work item: {} ({})", next.getName(), next.getType());
+        } else {
+            logger.info("✓ Workflow finished: {} (status: {})", getCaseName(), getCompletionStatus());
+        }
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        WorkItem workItem = getWorkItem();
+        return String.format("TransientWorkflowSession[%s, workItem=%s, captured=%d]", getCaseName(),
+            workItem != null ? workItem.getName() + " (" + workItem.getType() + ")" : "none", capturedWorkItems.size());
+    }
+
+    // ===== Helper Methods =====
+
+    private boolean isType(WorkItem.Type type) {
+        WorkItem workItem = session.getWorkItem();
+        return workItem != null && type.equals(workItem.getType());
+    }
+
+    private WorkItem requireWorkItem(WorkItem.Type type) throws GeneralException {
+        WorkItem workItem = session.getWorkItem();
+        if (workItem == null) {
+            throw new GeneralException("Workflow " + getCaseName() + " is not waiting on a work item");
+        }
+        if (!type.equals(workItem.getType())) {
+            throw new GeneralException("Current work item " + workItem.getName() + " is " + workItem.getType()
+                + ", expected " + type);
+        }
+        return workItem;
+    }
+
+    private void decide(WorkItem workItem, boolean approve) {
+        ApprovalSet approvalSet = (ApprovalSet) workItem.get("approvalSet");
+        if (approvalSet == null || approvalSet.getItems() == null) {
+            return;
+        }
+        for (ApprovalItem item : approvalSet.getItems()) {
+            if (approve) {
+                item.approve();
+            } else {
+                item.reject();
+            }
+            item.setState(WorkItem.State.Finished);
+        }
+    }
+
+    private void capture(WorkItem workItem) {
+        if (workItem != null) {
+            capturedWorkItems.add(workItem);
+        }
+    }
+}
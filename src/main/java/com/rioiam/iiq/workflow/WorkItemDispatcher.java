@@ -0,0 +1,310 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Filter;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.WorkItem;
+import sailpoint.tools.GeneralException;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared work item dispatcher for workflow cases.
+ *
+ * Callers register interest in the next pending work item of a case (optionally of one
+ * type, optionally skipping items already handled) and get a future of the work item ID.
+ * A single background thread keeps all outstanding registrations and, on each tick,
+ * fetches the pending work items of all their cases with one IN-filter projection query
+ * (per workflow.poll.batchSize cases), routing each item to the matching registrations
+ * by case and type. Ticks follow the same adaptive backoff as WorkflowStatusPoller.
+ * Queries run on the reserved background context pool, so async tasks that hold pooled
+ * contexts while waiting on the dispatcher cannot starve it.
+ *
+ * With 200 concurrent workflows this is one query per tick instead of 200 poll loops.
+ *
+ * Usage:
+ * <pre>
+ * dispatcher.register(caseName, WorkItem.Type.Approval)
+ *     .orTimeout(60, TimeUnit.SECONDS)
+ *     .thenAccept(workItemId -&gt; workItemHandler.approveWorkItem(workItemId, "Approved"));
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkItemDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkItemDispatcher.class);
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Value("${workflow.poll.initialDelayMillis:5}")
+    private long initialDelayMillis;
+
+    @Value("${workflow.poll.maxDelayMillis:1000}")
+    private long maxDelayMillis;
+
+    @Value("${workflow.poll.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${workflow.poll.batchSize:500}")
+    private int batchSize;
+
+    private final Collection<Registration> outstanding = new ConcurrentLinkedQueue<>();
+    private final Object signal = new Object();
+    private Thread dispatcherThread;
+    private volatile boolean running = false;
+    private volatile boolean progress = false;
+
+    // Statistics
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder tickErrors = new LongAdder();
+
+    /**
+     * Wait for the next pending work item of any type
+     *
+     * @param workflowCaseIdOrName ID or name of the workflow case
+     */
+    public CompletableFuture<String> register(String workflowCaseIdOrName) {
+        return register(workflowCaseIdOrName, null, Collections.emptySet());
+    }
+
+    /**
+     * Wait for the next pending work item of the given type
+     *
+     * @param workflowCaseIdOrName ID or name of the workflow case
+     * @param workItemType Type to wait for, or null for any type
+     */
+    public CompletableFuture<String> register(String workflowCaseIdOrName, WorkItem.Type workItemType) {
+        return register(workflowCaseIdOrName, workItemType, Collections.emptySet());
+    }
+
+    /**
+     * Register for the next pending work item of a case and get a future of its ID.
+     *
+     * Cancel the future (or let orTimeout() fail it) to stop waiting.
+     *
+     * @param workflowCaseIdOrName ID or name of the workflow case
+     * @param workItemType Type to wait for, or null for any type
+     * @param excludeIds Work item IDs to skip (e.g. items already completed but not yet archived)
+     */
+    public CompletableFuture<String> register(String workflowCaseIdOrName, WorkItem.Type workItemType,
+                                              Collection<String> excludeIds) {
+        Registration registration = new Registration(workflowCaseIdOrName, workItemType,
+            excludeIds != null ? new HashSet<>(excludeIds) : Collections.emptySet());
+        outstanding.add(registration);
+        ensureStarted();
+        synchronized (signal) {
+            progress = true; // New work: poll soon
+            signal.notifyAll();
+        }
+        return registration.future;
+    }
+
+    /**
+     * Number of registrations currently waiting
+     */
+    public int getOutstandingCount() {
+        return outstanding.size();
+    }
+
+    /**
+     * Get dispatcher statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("outstanding", outstanding.size());
+        stats.put("ticks", ticks.sum());
+        stats.put("queries", queries.sum());
+        stats.put("dispatched", dispatched.sum());
+        stats.put("tickErrors", tickErrors.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+        for (Registration registration : outstanding) {
+            registration.future.cancel(false);
+        }
+        outstanding.clear();
+    }
+
+    // ===== Helper Methods =====
+
+    private synchronized void ensureStarted() {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "iiq-workitem-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        logger.debug("Work item dispatcher started");
+    }
+
+    private void dispatchLoop() {
+        AdaptiveBackoff backoff = new AdaptiveBackoff(initialDelayMillis, maxDelayMillis, multiplier);
+        while (running) {
+            try {
+                synchronized (signal) {
+                    while (running && outstanding.isEmpty()) {
+                        signal.wait();
+                    }
+                    if (progress) {
+                        progress = false;
+                        backoff.reset();
+                    }
+                }
+                if (!running) {
+                    break;
+                }
+
+                tick();
+
+                synchronized (signal) {
+                    if (!progress) {
+                        signal.wait(backoff.nextDelayMillis());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // Keep dispatching through transient failures (e.g. circuit breaker open)
+                tickErrors.increment();
+                logger.warn("⚠ Work item dispatch failed: {}", e.getMessage());
+                sleepQuietly(maxDelayMillis);
+            }
+        }
+        logger.debug("Work item dispatcher stopped");
+    }
+
+    private void tick() {
+        // Drop registrations whose callers gave up (cancelled or timed out)
+        outstanding.removeIf(registration -> registration.future.isDone());
+        Set<String> keys = new LinkedHashSet<>();
+        for (Registration registration : outstanding) {
+            keys.add(registration.key);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        ticks.increment();
+
+        Map<String, List<ProjectionRow>> itemsByKey;
+        try {
+            itemsByKey = remoteContext.withBackgroundContext(ctx -> fetchPendingItems(ctx, new ArrayList<>(keys)));
+        } catch (GeneralException e) {
+            tickErrors.increment();
+            logger.warn("⚠ Work item dispatch failed: {}", e.getMessage());
+            return;
+        }
+
+        for (Registration registration : outstanding) {
+            List<ProjectionRow> items = itemsByKey.get(registration.key);
+            if (items == null) {
+                continue;
+            }
+            for (ProjectionRow item : items) {
+                if (registration.matches(item)) {
+                    outstanding.remove(registration);
+                    dispatched.increment();
+                    progress = true;
+                    registration.future.complete(item.getString("id"));
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetch the pending work items of every key on the given context, matching keys against both case id and name
+     *
+     * @return Work item rows keyed by the registered key
+     */
+    private Map<String, List<ProjectionRow>> fetchPendingItems(SailPointContext context, List<String> keys) throws GeneralException {
+        Set<String> wanted = new HashSet<>(keys);
+        Map<String, List<ProjectionRow>> byKey = new HashMap<>();
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < keys.size(); from += size) {
+            List<String> chunk = new ArrayList<>(keys.subList(from, Math.min(from + size, keys.size())));
+
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(Filter.and(
+                Filter.or(Filter.in("workflowCase.id", chunk), Filter.in("workflowCase.name", chunk)),
+                Filter.eq("state", WorkItem.State.Pending)
+            ));
+            qo.addOrdering("created", true);
+            queries.increment();
+
+            for (ProjectionRow row : remoteContext.project(context, WorkItem.class, qo,
+                    "id", "type", "workflowCase.id", "workflowCase.name")) {
+                String caseId = row.getString("workflowCase.id");
+                String caseName = row.getString("workflowCase.name");
+                if (caseId != null && wanted.contains(caseId)) {
+                    byKey.computeIfAbsent(caseId, key -> new ArrayList<>()).add(row);
+                }
+                if (caseName != null && wanted.contains(caseName)) {
+                    byKey.computeIfAbsent(caseName, key -> new ArrayList<>()).add(row);
+                }
+            }
+        }
+        return byKey;
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static final class Registration {
+        private final String key;
+        private final WorkItem.Type type;
+        private final Set<String> excludeIds;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        Registration(String key, WorkItem.Type type, Set<String> excludeIds) {
+            this.key = key;
+            this.type = type;
+            this.excludeIds = excludeIds;
+        }
+
+        boolean matches(ProjectionRow item) {
+            if (excludeIds.contains(item.getString("id"))) {
+                return false;
+            }
+            return type == null || type == item.getEnum("type", WorkItem.Type.class);
+        }
+    }
+}
@@ -1,25 +1,42 @@
 package com.rioiam.iiq.workflow;
 
+import com.rioiam.iiq.config.EnvironmentConfig;
+import com.rioiam.iiq.context.AsyncContextExecutor;
 import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.PagedObjectIterator;
+import com.rioiam.iiq.context.ProjectionRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import sailpoint.api.SailPointContext;
+import sailpoint.api.Workflower;
 import sailpoint.object.*;
 import sailpoint.tools.GeneralException;
 import sailpoint.tools.Util;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service for handling SailPoint work items (approvals and forms).
  *
  * This component handles:
  * - Retrieving work items for approvers
- * - Approving/rejecting work items
+ * - Waiting for work items (via the shared WorkItemDispatcher)
+ * - Streaming large work item queues page by page
+ * - Approving/rejecting work items, singly or in batches
  * - Completing form-based work items
  *
  * Reuses existing IIQRemoteContext for SailPoint connectivity.
@@ -32,6 +49,21 @@ public class WorkItemHandler {
     @Autowired
     private IIQRemoteContext remoteContext;
 
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
+    @Autowired
+    private WorkItemDispatcher workItemDispatcher;
+
+    @Autowired
+    private WorkflowStatusPoller statusPoller;
+
+    @Autowired
+    private EnvironmentConfig environmentConfig;
+
+    @Value("${workflow.workItem.batchSize:50}")
+    private int workItemBatchSize;
+
     /**
      * Get all open work items for a specific workflow case.
      *
@@ -75,6 +107,37 @@ public class WorkItemHandler {
         }
     }
 
+    /**
+     * Get lightweight summaries of the open work items of a workflow case.
+     * Only id, name, type, state and owner name are read, so no work item XML is loaded.
+     *
+     * @param workflowCaseId ID or name of the workflow case
+     * @return Rows with "id", "name", "type", "state" and "owner.name"
+     */
+    public List<ProjectionRow> getWorkItemSummaries(String workflowCaseId) {
+        logger.debug("Getting work item summaries for workflow case: {}", workflowCaseId);
+
+        try {
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(Filter.and(
+                Filter.or(
+                    Filter.eq("workflowCase.name", workflowCaseId),
+                    Filter.eq("workflowCase.id", workflowCaseId)
+                ),
+                Filter.eq("state", WorkItem.State.Pending)
+            ));
+
+            List<ProjectionRow> rows = remoteContext.project(WorkItem.class, qo,
+                "id", "name", "type", "state", "owner.name");
+            logger.debug("✓ Found {} work items for workflow {}", rows.size(), workflowCaseId);
+            return rows;
+
+        } catch (GeneralException e) {
+            logger.error("✗ Error getting work item summaries for workflow", e);
+            return new ArrayList<>();
+        }
+    }
+
     /**
      * Get all open work items for a specific approver.
      *
@@ -110,6 +173,34 @@ public class WorkItemHandler {
         }
     }
 
+    /**
+     * Stream pending work items without loading them all into memory.
+     * Suitable for scanning very large work item queues; the visitor can stop the scan early.
+     *
+     * @param approverName Owner name to filter on, or null for all pending work items
+     * @param visitor Called for each work item; returns false to stop
+     * @return Number of work items visited, -1 if error
+     */
+    public int scanPendingWorkItems(String approverName, PagedObjectIterator.ObjectVisitor<WorkItem> visitor) {
+        logger.debug("Scanning pending work items for approver: {}", approverName != null ? approverName : "(all)");
+
+        try {
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(Filter.eq("state", WorkItem.State.Pending));
+            if (approverName != null) {
+                qo.addFilter(Filter.eq("owner.name", approverName));
+            }
+
+            int visited = remoteContext.scan(WorkItem.class, qo, visitor);
+            logger.debug("✓ Scanned {} pending work items", visited);
+            return visited;
+
+        } catch (GeneralException e) {
+            logger.error("✗ Error scanning pending work items", e);
+            return -1;
+        }
+    }
+
     /**
      * Get work item by ID.
      *
@@ -430,9 +521,87 @@ public class WorkItemHandler {
         }
     }
 
+    /**
+     * Apply many work item decisions (approve, reject, complete form) in chunks.
+     *
+     * Each chunk of workflow.workItem.batchSize decisions is handled in one pass on one
+     * context: every decision is applied and saved, and its owning workflow is advanced
+     * right away with a shared Workflower, as completeFormWorkItem does for a single item.
+     * Items that fail validation (not found, wrong type) are skipped without failing the
+     * chunk. An item only counts as decided once its chunk has been committed.
+     *
+     * In rollback mode the decisions are rolled back, workflows are not advanced, and the
+     * items are reported as rolled back instead of decided.
+     *
+     * @param decisions Decisions to apply
+     * @return Per-item outcome
+     */
+    public BatchCompletionResult completeWorkItems(List<WorkItemDecision> decisions) {
+        logger.info("========================================");
+        logger.info("Completing {} work items (chunks of {})", decisions.size(), workItemBatchSize);
+        logger.info("========================================");
+
+        BatchCompletionResult result = new BatchCompletionResult(decisions.size());
+        boolean advance = !environmentConfig.shouldRollbackTransactions();
+        if (!advance) {
+            logger.warn("⚠ Rollback mode: work item decisions will not be committed or advanced");
+        }
+        long startTime = System.currentTimeMillis();
+
+        int size = Math.max(1, workItemBatchSize);
+        for (int from = 0; from < decisions.size(); from += size) {
+            List<WorkItemDecision> chunk = decisions.subList(from, Math.min(from + size, decisions.size()));
+            List<String> saved = new ArrayList<>(chunk.size());
+            List<String> advanced = new ArrayList<>(chunk.size());
+            Map<String, String> errors = new LinkedHashMap<>();
+
+            try {
+                remoteContext.execute(context -> {
+                    Workflower workflower = advance ? newWorkflower(context) : null;
+                    for (WorkItemDecision decision : chunk) {
+                        WorkItem workItem = context.getObjectById(WorkItem.class, decision.workItemId);
+                        String error = workItem != null ? applyDecision(context, workItem, decision) : "Work item not found";
+                        if (error != null) {
+                            errors.put(decision.workItemId, error);
+                            continue;
+                        }
+                        saved.add(decision.workItemId);
+                        if (workflower != null && workItem.getWorkflowCase() != null) {
+                            advanceWorkflow(workflower, workItem, advanced, errors);
+                        }
+                    }
+                    return null;
+                });
+            } catch (GeneralException e) {
+                logger.error("✗ Failed to save work item chunk at {}: {}", from, e.getMessage());
+                for (WorkItemDecision decision : chunk) {
+                    result.errors.putIfAbsent(decision.workItemId, e.getMessage());
+                }
+                continue;
+            }
+
+            // Committed (or, in rollback mode, rolled back) together with the chunk
+            if (advance) {
+                result.decided.addAll(saved);
+                result.advanced.addAll(advanced);
+            } else {
+                result.rolledBack.addAll(saved);
+            }
+            result.errors.putAll(errors);
+            logger.debug("Completed {}/{} work items", from + chunk.size(), decisions.size());
+        }
+
+        result.durationMillis = System.currentTimeMillis() - startTime;
+        logger.info("✓ {}", result);
+        return result;
+    }
+
     /**
      * Wait for a work item to appear for a workflow case.
-     * Polls for up to maxWaitSeconds.
+     *
+     * The wait is registered with the shared WorkItemDispatcher, which fetches the pending
+     * work items of all waiting cases with one query per tick. The work item is loaded
+     * once, when it is found.
      *
      * @param workflowCaseId ID of the workflow case
      * @param workItemType Type of work item to wait for (Form or Approval)
@@ -443,41 +612,32 @@ public class WorkItemHandler {
         logger.debug("Waiting for {} work item for workflow {} (max {}s)",
             workItemType, workflowCaseId, maxWaitSeconds);
 
-        long startTime = System.currentTimeMillis();
-        long timeoutMillis = maxWaitSeconds * 1000L;
-        int pollInterval = 1000; // Poll every 1 second
-
-        while (true) {
-            List<WorkItem> items = getWorkItemsForWorkflow(workflowCaseId);
-
-            for (WorkItem item : items) {
-                if (workItemType.equals(item.getType())) {
-                    logger.debug("✓ Found {} work item: {}", workItemType, item.getId());
-                    return item;
-                }
-            }
-
-            // Check timeout
-            long elapsed = System.currentTimeMillis() - startTime;
-            if (elapsed >= timeoutMillis) {
-                logger.warn("✗ Timeout waiting for {} work item", workItemType);
-                return null;
-            }
+        CompletableFuture<String> future = workItemDispatcher.register(workflowCaseId, workItemType);
+        try {
+            String workItemId = future.get(maxWaitSeconds, TimeUnit.SECONDS);
+            logger.debug("✓ Found {} work item: {}", workItemType, workItemId);
+            return getWorkItemById(workItemId);
 
-            // Wait before next poll
-            try {
-                Thread.sleep(pollInterval);
-            } catch (InterruptedException e) {
-                logger.error("Interrupted while waiting for work item", e);
-                Thread.currentThread().interrupt();
-                return null;
-            }
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            logger.warn("✗ Timeout waiting for {} work item", workItemType);
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            logger.error("Interrupted while waiting for work item", e);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            logger.error("✗ Error waiting for work item", e.getCause());
+            return null;
         }
     }
 
     /**
      * Automatically handle ALL approval work items for a workflow.
-     * This method continuously polls for approval work items and approves them until workflow completes.
+     * After each approval, the next level is detected as soon as either a new pending approval
+     * appears or the workflow completes - there is no fixed delay between levels. Each wait is
+     * bounded by maxWaitSeconds and by one overall deadline of maxApprovalLevels * maxWaitSeconds.
      *
      * Supports multi-level approvals (e.g., Manager -> Business Owner -> Additional levels)
      *
@@ -495,13 +655,13 @@ public class WorkItemHandler {
         logger.info("========================================");
 
         int approvalsProcessed = 0;
-        long overallStartTime = System.currentTimeMillis();
-        long overallTimeout = maxApprovalLevels * maxWaitSeconds * 1000L;
+        long deadline = System.currentTimeMillis() + maxApprovalLevels * maxWaitSeconds * 1000L;
+        Set<String> handledIds = new HashSet<>();
 
         try {
             for (int level = 1; level <= maxApprovalLevels; level++) {
                 // Check overall timeout
-                if (System.currentTimeMillis() - overallStartTime >= overallTimeout) {
+                if (System.currentTimeMillis() >= deadline) {
                     logger.warn("Overall timeout reached after processing {} approvals", approvalsProcessed);
                     break;
                 }
@@ -510,13 +670,14 @@ public class WorkItemHandler {
                 logger.info("Checking for approval level {}", level);
                 logger.info("----------------------------------------");
 
-                // Wait for approval work item
-                WorkItem approvalItem = waitForWorkItem(workflowCaseId, WorkItem.Type.Approval, maxWaitSeconds);
+                // Wait for the next approval work item, or for the workflow to complete
+                WorkItem approvalItem = awaitNextApproval(workflowCaseId, handledIds, maxWaitSeconds, deadline);
 
                 if (approvalItem == null) {
                     logger.info("No more approval work items found - all approvals completed");
                     break;
                 }
+                handledIds.add(approvalItem.getId());
 
                 // Log approval details
                 String owner = approvalItem.getOwner() != null ? approvalItem.getOwner().getName() : "Unknown";
@@ -536,16 +697,6 @@ public class WorkItemHandler {
                     logger.error("✗ Failed to approve level {} - stopping approval chain", level);
                     return -1;
                 }
-
-                // Give workflow time to process and create next approval if needed
-                logger.debug("Waiting for workflow to process approval and create next level...");
-                try {
-                    Thread.sleep(2000); // Wait 2 seconds between approval levels
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    logger.error("Interrupted while waiting between approval levels");
-                    return -1;
-                }
             }
 
             logger.info("========================================");
@@ -555,6 +706,10 @@ public class WorkItemHandler {
 
             return approvalsProcessed;
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for the next approval level");
+            return -1;
         } catch (Exception e) {
             logger.error("✗ Error during automatic approval handling", e);
             return -1;
@@ -593,13 +748,12 @@ public class WorkItemHandler {
         logger.info("========================================");
 
         int rejectionsProcessed = 0;
-        long overallStartTime = System.currentTimeMillis();
-        long overallTimeout = maxApprovalLevels * maxWaitSeconds * 1000L;
+        long deadline = System.currentTimeMillis() + maxApprovalLevels * maxWaitSeconds * 1000L;
 
         try {
             for (int level = 1; level <= maxApprovalLevels; level++) {
                 // Check overall timeout
-                if (System.currentTimeMillis() - overallStartTime >= overallTimeout) {
+                if (System.currentTimeMillis() >= deadline) {
                     logger.warn("Overall timeout reached after processing {} rejections", rejectionsProcessed);
                     break;
                 }
@@ -608,8 +762,8 @@ public class WorkItemHandler {
                 logger.info("Checking for approval level {} to reject", level);
                 logger.info("----------------------------------------");
 
-                // Wait for approval work item
-                WorkItem approvalItem = waitForWorkItem(workflowCaseId, WorkItem.Type.Approval, maxWaitSeconds);
+                // Wait for the next approval work item, or for the workflow to complete
+                WorkItem approvalItem = awaitNextApproval(workflowCaseId, Collections.emptySet(), maxWaitSeconds, deadline);
 
                 if (approvalItem == null) {
                     logger.info("No more approval work items found");
@@ -646,6 +800,10 @@ public class WorkItemHandler {
 
             return rejectionsProcessed;
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for an approval to reject");
+            return -1;
         } catch (Exception e) {
             logger.error("✗ Error during automatic rejection handling", e);
             return -1;
@@ -666,24 +824,21 @@ public class WorkItemHandler {
     /**
      * Get the current approval level (how many approvals have been completed).
      * Useful for tracking progress in multi-level approval scenarios.
+     * Counted in the database; no work items are loaded.
      *
-     * @param workflowCaseId ID of the workflow case
+     * @param workflowCaseId ID or name of the workflow case
      * @return Number of completed approval work items
      */
     public int getCompletedApprovalCount(String workflowCaseId) {
-        SailPointContext context = remoteContext.getContext();
-
         try {
             QueryOptions qo = new QueryOptions();
-            Filter filter = Filter.and(
-                Filter.eq("workflowCase.id", workflowCaseId),
+            qo.addFilter(Filter.and(
+                caseFilter(workflowCaseId),
                 Filter.eq("type", WorkItem.Type.Approval),
                 Filter.eq("state", WorkItem.State.Finished)
-            );
-            qo.addFilter(filter);
+            ));
 
-            List<WorkItem> completedApprovals = context.getObjects(WorkItem.class, qo);
-            int count = completedApprovals != null ? completedApprovals.size() : 0;
+            int count = remoteContext.getContext().countObjects(WorkItem.class, qo);
 
             logger.debug("Found {} completed approvals for workflow {}", count, workflowCaseId);
             return count;
@@ -696,21 +851,55 @@ public class WorkItemHandler {
 
     /**
      * Check if there are any pending approval work items for the workflow.
+     * Selects at most one work item id; no work items are loaded.
      *
-     * @param workflowCaseId ID of the workflow case
+     * @param workflowCaseId ID or name of the workflow case
      * @return true if pending approvals exist, false otherwise
      */
     public boolean hasPendingApprovals(String workflowCaseId) {
-        List<WorkItem> approvals = getApprovalWorkItems(workflowCaseId);
-        boolean hasPending = !approvals.isEmpty();
+        try {
+            ProjectionRow first = remoteContext.projectOne(WorkItem.class, Filter.and(
+                caseFilter(workflowCaseId),
+                Filter.eq("type", WorkItem.Type.Approval),
+                Filter.eq("state", WorkItem.State.Pending)
+            ), "id");
+            boolean hasPending = first != null;
 
-        if (hasPending) {
-            logger.debug("Workflow {} has {} pending approval(s)", workflowCaseId, approvals.size());
-        } else {
-            logger.debug("Workflow {} has no pending approvals", workflowCaseId);
+            logger.debug("Workflow {} {} pending approvals", workflowCaseId, hasPending ? "has" : "has no");
+            return hasPending;
+
+        } catch (GeneralException e) {
+            logger.error("Error checking for pending approvals", e);
+            return false;
         }
+    }
 
-        return hasPending;
+    /**
+     * Get work item counts of a workflow case by type and state, from one grouped count query.
+     *
+     * @param workflowCaseId ID or name of the workflow case
+     * @return Progress summary, or null on error
+     */
+    public ApprovalProgress getApprovalProgress(String workflowCaseId) {
+        try {
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(caseFilter(workflowCaseId));
+            qo.addGroupBy("type");
+            qo.addGroupBy("state");
+
+            ApprovalProgress progress = new ApprovalProgress(workflowCaseId);
+            for (ProjectionRow row : remoteContext.project(WorkItem.class, qo, "type", "state", "count(id)")) {
+                progress.add(row.getEnum("type", WorkItem.Type.class), row.getEnum("state", WorkItem.State.class),
+                    row.getInt("count(id)", 0));
+            }
+
+            logger.debug("Approval progress for {}: {}", workflowCaseId, progress);
+            return progress;
+
+        } catch (GeneralException e) {
+            logger.error("Error getting approval progress", e);
+            return null;
+        }
     }
 
     /**
@@ -727,8 +916,16 @@ public class WorkItemHandler {
         logger.info("Approval Level {}: Waiting for work item", expectedLevel);
         logger.info("========================================");
 
-        // Wait for approval work item
-        WorkItem approvalItem = waitForWorkItem(workflowCaseId, WorkItem.Type.Approval, maxWaitSeconds);
+        // Wait for approval work item, or for the workflow to complete
+        WorkItem approvalItem;
+        try {
+            approvalItem = awaitNextApproval(workflowCaseId, Collections.emptySet(), maxWaitSeconds,
+                System.currentTimeMillis() + maxWaitSeconds * 1000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for approval level {}", expectedLevel);
+            return null;
+        }
 
         if (approvalItem == null) {
             logger.info("No approval work item found at level {}", expectedLevel);
@@ -761,6 +958,165 @@ public class WorkItemHandler {
         }
     }
 
+    // ===== Async API =====
+    // Each call runs on the async executor with its own leased context.
+
+    /**
+     * Asynchronous variant of {@link #approveWorkItem(String, String)}
+     */
+    public CompletableFuture<Boolean> approveWorkItemAsync(String workItemId, String comments) {
+        return asyncExecutor.supplyAsync(() -> approveWorkItem(workItemId, comments));
+    }
+
+    /**
+     * Asynchronous variant of {@link #rejectWorkItem(String, String)}
+     */
+    public CompletableFuture<Boolean> rejectWorkItemAsync(String workItemId, String comments) {
+        return asyncExecutor.supplyAsync(() -> rejectWorkItem(workItemId, comments));
+    }
+
+    /**
+     * Asynchronous variant of {@link #completeFormWorkItem(String, Map)}
+     */
+    public CompletableFuture<Boolean> completeFormWorkItemAsync(String workItemId, Map<String, Object> formData) {
+        return asyncExecutor.supplyAsync(() -> completeFormWorkItem(workItemId, formData));
+    }
+
+    /**
+     * Asynchronous variant of {@link #waitForWorkItem(String, WorkItem.Type, int)}
+     */
+    public CompletableFuture<WorkItem> waitForWorkItemAsync(String workflowCaseId, WorkItem.Type workItemType, int maxWaitSeconds) {
+        return asyncExecutor.supplyAsync(() -> waitForWorkItem(workflowCaseId, workItemType, maxWaitSeconds));
+    }
+
+    /**
+     * Asynchronous variant of {@link #handleAllApprovals(String, int, int, String)}
+     */
+    public CompletableFuture<Integer> handleAllApprovalsAsync(String workflowCaseId, int maxWaitSeconds,
+                                                              int maxApprovalLevels, String comments) {
+        return asyncExecutor.supplyAsync(() -> handleAllApprovals(workflowCaseId, maxWaitSeconds, maxApprovalLevels, comments));
+    }
+
+    /**
+     * Asynchronous variant of {@link #handleAllRejections(String, int, int, String)}
+     */
+    public CompletableFuture<Integer> handleAllRejectionsAsync(String workflowCaseId, int maxWaitSeconds,
+                                                               int maxApprovalLevels, String comments) {
+        return asyncExecutor.supplyAsync(() -> handleAllRejections(workflowCaseId, maxWaitSeconds, maxApprovalLevels, comments));
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * Wait for the next pending approval of a case, racing it against case completion.
+     *
+     * Both waits go through the shared pollers (WorkItemDispatcher and WorkflowStatusPoller),
+     * which back off adaptively, so the next level is picked up as soon as IIQ creates it.
+     *
+     * @param handledIds Approvals already completed by the caller (skipped if still pending)
+     * @param maxWaitSeconds Maximum wait for this level
+     * @param deadline Overall deadline (epoch millis)
+     * @return Next approval work item, or null if the case completed or the wait timed out
+     */
+    WorkItem awaitNextApproval(String workflowCaseId, Set<String> handledIds, int maxWaitSeconds,
+                               long deadline) throws InterruptedException {
+        long waitMillis = Math.min(maxWaitSeconds * 1000L, deadline - System.currentTimeMillis());
+        if (waitMillis <= 0) {
+            return null;
+        }
+
+        CompletableFuture<String> nextApproval =
+            workItemDispatcher.register(workflowCaseId, WorkItem.Type.Approval, handledIds);
+        CompletableFuture<WorkflowStatusPoller.CaseStatus> completion = statusPoller.register(workflowCaseId);
+
+        try {
+            CompletableFuture.anyOf(nextApproval, completion).get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.debug("No approval work item for {} within {} ms", workflowCaseId, waitMillis);
+        } catch (ExecutionException e) {
+            logger.warn("⚠ Error waiting for next approval: {}", e.getCause().getMessage());
+        } finally {
+            nextApproval.cancel(false);
+            completion.cancel(false);
+        }
+
+        if (nextApproval.isDone() && !nextApproval.isCompletedExceptionally()) {
+            return getWorkItemById(nextApproval.join());
+        }
+        if (completion.isDone() && !completion.isCompletedExceptionally()) {
+            logger.debug("Workflow {} completed: {}", workflowCaseId, completion.join());
+        }
+        return null;
+    }
+
+    /**
+     * Work items of a case, matched by case id or name
+     */
+    private Filter caseFilter(String workflowCaseId) {
+        return Filter.or(
+            Filter.eq("workflowCase.name", workflowCaseId),
+            Filter.eq("workflowCase.id", workflowCaseId)
+        );
+    }
+
+    /**
+     * Apply one decision to its work item and save it (no commit)
+     *
+     * @return Error message, or null if the decision was applied
+     */
+    private String applyDecision(SailPointContext context, WorkItem workItem, WorkItemDecision decision) throws GeneralException {
+        if (decision.action == WorkItemDecision.Action.FORM) {
+            if (!WorkItem.Type.Form.equals(workItem.getType())) {
+                return "Work item is not a form type: " + workItem.getType();
+            }
+            if (decision.formData != null) {
+                for (Map.Entry<String, Object> entry : decision.formData.entrySet()) {
+                    workItem.put(entry.getKey(), entry.getValue());
+                }
+            }
+        } else {
+            boolean approve = decision.action == WorkItemDecision.Action.APPROVE;
+            ApprovalSet approvalSet = (ApprovalSet) workItem.get("approvalSet");
+            if (approvalSet != null && approvalSet.getItems() != null) {
+                for (ApprovalItem item : approvalSet.getItems()) {
+                    if (approve) {
+                        item.approve();
+                    } else {
+                        item.reject();
+                    }
+                    item.setState(WorkItem.State.Finished);
+                }
+            }
+        }
+
+        workItem.setState(WorkItem.State.Finished);
+        workItem.setCompletionComments(decision.comments != null ? decision.comments
+            : "Completed programmatically by test framework (" + decision.action + ")");
+        context.saveObject(workItem);
+        return null;
+    }
+
+    /**
+     * Advance the owning workflow of a saved work item.
+     * A failure leaves the decision saved; the case advances when IIQ next picks it up.
+     */
+    private void advanceWorkflow(Workflower workflower, WorkItem workItem, List<String> advanced, Map<String, String> errors) {
+        try {
+            workflower.process(workItem, true);
+            advanced.add(workItem.getId());
+        } catch (GeneralException | RuntimeException e) {
+            errors.put(workItem.getId(), "Saved but not advanced: " + e.getMessage());
+            logger.warn("⚠ Could not advance workflow of work item {}: {}", workItem.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Workflower used to advance batch-completed work items (overridable in unit tests)
+     */
+    Workflower newWorkflower(SailPointContext context) {
+        return new Workflower(context);
+    }
+
     /**
      * Result of a single approval level operation.
      * Contains all details needed for test assertions.
@@ -806,4 +1162,215 @@ public class WorkItemHandler {
                 level, approverName, success);
         }
     }
+
+    /**
+     * One decision for completeWorkItems
+     */
+    public static final class WorkItemDecision {
+        enum Action {
+            APPROVE, REJECT, FORM
+        }
+
+        private final String workItemId;
+        private final Action action;
+        private final Map<String, Object> formData;
+        private final String comments;
+
+        private WorkItemDecision(String workItemId, Action action, Map<String, Object> formData, String comments) {
+            this.workItemId = workItemId;
+            this.action = action;
+            this.formData = formData;
+            this.comments = comments;
+        }
+
+        /**
+         * Approve the work item and every item of its approval set
+         */
+        public static WorkItemDecision approve(String workItemId, String comments) {
+            return new WorkItemDecision(workItemId, Action.APPROVE, null, comments);
+        }
+
+        /**
+         * Reject the work item and every item of its approval set
+         */
+        public static WorkItemDecision reject(String workItemId, String comments) {
+            return new WorkItemDecision(workItemId, Action.REJECT, null, comments);
+        }
+
+        /**
+         * Complete a form work item with the given field values
+         */
+        public static WorkItemDecision completeForm(String workItemId, Map<String, Object> formData) {
+            return new WorkItemDecision(workItemId, Action.FORM, formData, null);
+        }
+
+        public String getWorkItemId() {
+            return workItemId;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("WorkItemDecision[%s: %s]", workItemId, action);
+        }
+    }
+
+    /**
+     * Per-item outcome of completeWorkItems
+     */
+    public static final class BatchCompletionResult {
+        private final int requested;
+        private final Set<String> decided = new LinkedHashSet<>();
+        private final Set<String> advanced = new LinkedHashSet<>();
+        private final Set<String> rolledBack = new LinkedHashSet<>();
+        private final Map<String, String> errors = new LinkedHashMap<>();
+        private long durationMillis;
+
+        BatchCompletionResult(int requested) {
+            this.requested = requested;
+        }
+
+        /**
+         * Work items whose decision was committed
+         */
+        public Set<String> getDecided() {
+            return decided;
+        }
+
+        /**
+         * Work items whose workflow was advanced
+         */
+        public Set<String> getAdvanced() {
+            return advanced;
+        }
+
+        /**
+         * Work items whose decision was applied but rolled back (rollback mode)
+         */
+        public Set<String> getRolledBack() {
+            return rolledBack;
+        }
+
+        /**
+         * Error per failed work item (not saved, or saved but not advanced)
+         */
+        public Map<String, String> getErrors() {
+            return errors;
+        }
+
+        public boolean isSuccess(String workItemId) {
+            return decided.contains(workItemId) && !errors.containsKey(workItemId);
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Summary suitable for statistics output
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requested", requested);
+            summary.put("decided", decided.size());
+            summary.put("advanced", advanced.size());
+            summary.put("rolledBack", rolledBack.size());
+            summary.put("failed", errors.size());
+            summary.put("durationMs", durationMillis);
+            return summary;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("BatchCompletionResult[requested=%d, decided=%d, advanced=%d, rolledBack=%d, failed=%d, %dms]",
+                requested, decided.size(), advanced.size(), rolledBack.size(), errors.size(), durationMillis);
+        }
+    }
+
+    /**
+     * Work item counts of one workflow case by type and state
+     */
+    public static final class ApprovalProgress {
+        private final String workflowCaseId;
+        private final Map<String, Integer> byType = new LinkedHashMap<>();
+        private final Map<String, Integer> byState = new LinkedHashMap<>();
+        private int pendingApprovals;
+        private int finishedApprovals;
+        private int total;
+
+        ApprovalProgress(String workflowCaseId) {
+            this.workflowCaseId = workflowCaseId;
+        }
+
+        void add(WorkItem.Type type, WorkItem.State state, int count) {
+            byType.merge(type != null ? type.name() : "None", count, Integer::sum);
+            byState.merge(state != null ? state.name() : "None", count, Integer::sum);
+            if (WorkItem.Type.Approval.equals(type)) {
+                if (WorkItem.State.Pending.equals(state)) {
+                    pendingApprovals += count;
+                } else if (WorkItem.State.Finished.equals(state)) {
+                    finishedApprovals += count;
+                }
+            }
+            total += count;
+        }
+
+        public String getWorkflowCaseId() {
+            return workflowCaseId;
+        }
+
+        /**
+         * Work item count per type (Approval, Form, ...)
+         */
+        public Map<String, Integer> getByType() {
+            return byType;
+        }
+
+        /**
+         * Work item count per state (Pending, Finished, ...; "None" for no state)
+         */
+        public Map<String, Integer> getByState() {
+            return byState;
+        }
+
+        public int getPending() {
+            return byState.getOrDefault(WorkItem.State.Pending.name(), 0);
+        }
+
+        public int getFinished() {
+            return byState.getOrDefault(WorkItem.State.Finished.name(), 0);
+        }
+
+        public int getPendingApprovals() {
+            return pendingApprovals;
+        }
+
+        public int getFinishedApprovals() {
+            return finishedApprovals;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Summary suitable for statistics output
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("workflowCase", workflowCaseId);
+            summary.put("pending", getPending());
+            summary.put("finished", getFinished());
+            summary.put("pendingApprovals", pendingApprovals);
+            summary.put("finishedApprovals", finishedApprovals);
+            summary.put("byType", byType);
+            summary.put("total", total);
+            return summary;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ApprovalProgress[%s: pending=%d, finished=%d, approvals=%d/%d, byType=%s]",
+                workflowCaseId, getPending(), getFinished(), finishedApprovals, pendingApprovals + finishedApprovals, byType);
+        }
+    }
 }
@@ -0,0 +1,317 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.object.Filter;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.TaskResult;
+import sailpoint.object.WorkItem;
+import sailpoint.object.WorkflowCase;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk cleanup of workflow cases left behind by test runs.
+ *
+ * Cases are selected by launcher, name prefix and/or age, then:
+ * 1. Running cases are terminated, in chunks of workflow.cleanup.batchSize
+ * 2. Their WorkItems, TaskResults and the cases themselves are deleted with
+ *    one IN-filter delete per chunk, each chunk in its own transaction
+ *
+ * Honors rollback mode (environment config): nothing is committed there.
+ *
+ * Usage:
+ * <pre>
+ * CleanupResult result = cleanupService.cleanup(
+ *     CleanupCriteria.byLauncher("dinesh.jadhav1").createdBefore(yesterday),
+ *     (phase, done, total) -&gt; logger.info("{}: {}/{}", phase, done, total));
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkflowCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowCleanupService.class);
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Value("${workflow.cleanup.batchSize:200}")
+    private int batchSize;
+
+    /**
+     * Receives progress after every chunk
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param phase "terminate" or "purge"
+         * @param done Cases processed so far in this phase
+         * @param total Cases to process in this phase
+         */
+        void onProgress(String phase, int done, int total);
+    }
+
+    /**
+     * Terminate matching running cases and purge everything they left behind
+     *
+     * @param criteria Which cases to clean up
+     * @param listener Progress callback (may be null)
+     * @return Counts of terminated cases and deleted objects
+     */
+    public CleanupResult cleanup(CleanupCriteria criteria, ProgressListener listener) {
+        return run(criteria, true, listener);
+    }
+
+    /**
+     * Terminate matching running cases without deleting anything
+     */
+    public CleanupResult terminate(CleanupCriteria criteria, ProgressListener listener) {
+        return run(criteria, false, listener);
+    }
+
+    // ===== Helper Methods =====
+
+    private CleanupResult run(CleanupCriteria criteria, boolean purge, ProgressListener listener) {
+        logger.info("========================================");
+        logger.info("Workflow cleanup: {} (purge: {})", criteria, purge);
+        logger.info("========================================");
+
+        CleanupResult result = new CleanupResult();
+        long startTime = System.currentTimeMillis();
+
+        try {
+            List<String> ids = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            List<String> running = new ArrayList<>();
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(criteria.toFilter());
+            for (ProjectionRow row : remoteContext.project(WorkflowCase.class, qo, "id", "name", "completionStatus")) {
+                ids.add(row.getString("id"));
+                names.add(row.getString("name"));
+                if (row.get("completionStatus") == null) {
+                    running.add(row.getString("id"));
+                }
+            }
+            result.casesSelected = ids.size();
+            logger.info("Selected {} workflow cases ({} running)", ids.size(), running.size());
+
+            terminateCases(running, result, listener);
+            if (purge) {
+                purgeCases(ids, names, result, listener);
+            }
+
+        } catch (GeneralException e) {
+            result.error = e.getMessage();
+            logger.error("✗ Workflow cleanup failed", e);
+        }
+
+        result.durationMillis = System.currentTimeMillis() - startTime;
+        logger.info("✓ {}", result);
+        return result;
+    }
+
+    private void terminateCases(List<String> ids, CleanupResult result, ProgressListener listener) throws GeneralException {
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < ids.size(); from += size) {
+            List<String> chunk = ids.subList(from, Math.min(from + size, ids.size()));
+            result.casesTerminated += remoteContext.execute(context -> {
+                int terminated = 0;
+                for (String id : chunk) {
+                    WorkflowCase wfCase = context.getObjectById(WorkflowCase.class, id);
+                    if (wfCase != null && wfCase.getCompletionStatus() == null) {
+                        wfCase.setCompletionStatus(TaskResult.CompletionStatus.Terminated);
+                        context.saveObject(wfCase);
+                        terminated++;
+                    }
+                }
+                return terminated;
+            });
+            notify(listener, "terminate", from + chunk.size(), ids.size());
+        }
+    }
+
+    private void purgeCases(List<String> ids, List<String> names, CleanupResult result,
+                            ProgressListener listener) throws GeneralException {
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < ids.size(); from += size) {
+            List<String> idChunk = new ArrayList<>(ids.subList(from, Math.min(from + size, ids.size())));
+            List<String> nameChunk = new ArrayList<>(names.subList(from, Math.min(from + size, names.size())));
+
+            int[] deleted = remoteContext.execute(context -> {
+                QueryOptions workItems = new QueryOptions();
+                workItems.addFilter(Filter.in("workflowCase.id", idChunk));
+                int workItemCount = context.countObjects(WorkItem.class, workItems);
+                context.removeObjects(WorkItem.class, workItems);
+
+                // Workflow TaskResults are named after their case
+                QueryOptions taskResults = new QueryOptions();
+                taskResults.addFilter(Filter.in("name", nameChunk));
+                int taskResultCount = context.countObjects(TaskResult.class, taskResults);
+                context.removeObjects(TaskResult.class, taskResults);
+
+                QueryOptions cases = new QueryOptions();
+                cases.addFilter(Filter.in("id", idChunk));
+                int caseCount = context.countObjects(WorkflowCase.class, cases);
+                context.removeObjects(WorkflowCase.class, cases);
+
+                return new int[] {workItemCount, taskResultCount, caseCount};
+            });
+
+            result.workItemsDeleted += deleted[0];
+            result.taskResultsDeleted += deleted[1];
+            result.casesDeleted += deleted[2];
+            notify(listener, "purge", from + idChunk.size(), ids.size());
+        }
+    }
+
+    private void notify(ProgressListener listener, String phase, int done, int total) {
+        logger.debug("Cleanup {}: {}/{}", phase, done, total);
+        if (listener != null) {
+            listener.onProgress(phase, done, total);
+        }
+    }
+
+    /**
+     * Selects the workflow cases to clean up. All set criteria must match.
+     */
+    public static final class CleanupCriteria {
+        private String launcher;
+        private String namePrefix;
+        private Date createdBefore;
+
+        public static CleanupCriteria byLauncher(String launcher) {
+            return new CleanupCriteria().launcher(launcher);
+        }
+
+        public static CleanupCriteria byNamePrefix(String namePrefix) {
+            return new CleanupCriteria().namePrefix(namePrefix);
+        }
+
+        public static CleanupCriteria olderThan(Date createdBefore) {
+            return new CleanupCriteria().createdBefore(createdBefore);
+        }
+
+        public CleanupCriteria launcher(String launcher) {
+            this.launcher = launcher;
+            return this;
+        }
+
+        public CleanupCriteria namePrefix(String namePrefix) {
+            this.namePrefix = namePrefix;
+            return this;
+        }
+
+        public CleanupCriteria createdBefore(Date createdBefore) {
+            this.createdBefore = createdBefore;
+            return this;
+        }
+
+        /**
+         * Build the filter; refuses to match every case in the system
+         */
+        Filter toFilter() {
+            List<Filter> filters = new ArrayList<>();
+            if (launcher != null) {
+                filters.add(Filter.eq("launcher", launcher));
+            }
+            if (namePrefix != null && !namePrefix.isEmpty()) {
+                filters.add(Filter.like("name", namePrefix, Filter.MatchMode.START));
+            }
+            if (createdBefore != null) {
+                filters.add(Filter.lt("created", createdBefore));
+            }
+            if (filters.isEmpty()) {
+                throw new IllegalArgumentException("Cleanup criteria must set a launcher, name prefix or age");
+            }
+            return filters.size() == 1 ? filters.get(0) : Filter.and(filters);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("CleanupCriteria[launcher=%s, namePrefix=%s, createdBefore=%s]",
+                launcher, namePrefix, createdBefore);
+        }
+    }
+
+    /**
+     * Outcome of a cleanup run
+     */
+    public static final class CleanupResult {
+        private int casesSelected;
+        private int casesTerminated;
+        private int workItemsDeleted;
+        private int taskResultsDeleted;
+        private int casesDeleted;
+        private long durationMillis;
+        private String error;
+
+        public int getCasesSelected() {
+            return casesSelected;
+        }
+
+        public int getCasesTerminated() {
+            return casesTerminated;
+        }
+
+        public int getWorkItemsDeleted() {
+            return workItemsDeleted;
+        }
+
+        public int getTaskResultsDeleted() {
+            return taskResultsDeleted;
+        }
+
+        public int getCasesDeleted() {
+            return casesDeleted;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Error that stopped the run, or null if it completed
+         */
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * Summary suitable for statistics output
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("casesSelected", casesSelected);
+            summary.put("casesTerminated", casesTerminated);
+            summary.put("workItemsDeleted", workItemsDeleted);
+            summary.put("taskResultsDeleted", taskResultsDeleted);
+            summary.put("casesDeleted", casesDeleted);
+            summary.put("durationMs", durationMillis);
+            summary.put("error", error);
+            return summary;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("CleanupResult[selected=%d, terminated=%d, workItems=%d, taskResults=%d, cases=%d, %dms%s]",
+                casesSelected, casesTerminated, workItemsDeleted, taskResultsDeleted, casesDeleted, durationMillis,
+                error != null ? ", error=" + error : "");
+        }
+    }
+}
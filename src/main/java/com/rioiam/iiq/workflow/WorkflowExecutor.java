@@ -1,18 +1,34 @@
 package com.rioiam.iiq.workflow;
 
+import com.rioiam.iiq.context.AsyncContextExecutor;
 import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import sailpoint.api.SailPointContext;
+import sailpoint.api.WorkflowSession;
 import sailpoint.api.Workflower;
+import sailpoint.object.Attributes;
+import sailpoint.object.Filter;
 import sailpoint.object.TaskResult;
+import sailpoint.object.Workflow;
 import sailpoint.object.WorkflowCase;
 import sailpoint.object.WorkflowLaunch;
 import sailpoint.tools.GeneralException;
+import sailpoint.tools.xml.XMLReferenceResolver;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for executing SailPoint workflows remotely.
@@ -29,9 +45,21 @@ public class WorkflowExecutor {
 
     private static final Logger logger = LoggerFactory.getLogger(WorkflowExecutor.class);
 
+    // Keeps case names unique when several launches happen within the same millisecond
+    private static final AtomicLong LAUNCH_SEQUENCE = new AtomicLong();
+
     @Autowired
     private IIQRemoteContext remoteContext;
 
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
+    @Autowired
+    private WorkflowStatusPoller statusPoller;
+
+    @Autowired
+    private WorkflowTracer workflowTracer;
+
     /**
      * Launch a workflow with the given name and input variables.
      *
@@ -43,6 +71,38 @@ public class WorkflowExecutor {
         return launchWorkflow(workflowName, "spadmin", variables);
     }
 
+    /**
+     * Launch a workflow, optionally with tracing.
+     *
+     * With trace enabled the case runs on an in-memory copy of the workflow with every
+     * step monitored, so IIQ writes a ProcessLog row per step and approval, and the
+     * workflow's trace variable is set. Client-side spans (launch, waitForCompletion) are
+     * collected for the case as well, so that WorkflowTracer.buildTimeline() can show
+     * where the time went. The stored workflow definition is not changed.
+     *
+     * @param workflowName Name of the workflow to launch
+     * @param launcher Identity name who launches the workflow
+     * @param variables Input variables for the workflow
+     * @param trace true to enable workflow tracing
+     * @return Workflow case name if successful, null if failed
+     */
+    public String launchWorkflow(String workflowName, String launcher, Map<String, Object> variables, boolean trace) {
+        if (!trace) {
+            return launchWorkflow(workflowName, launcher, variables);
+        }
+
+        Map<String, Object> tracedVariables = variables != null ? new HashMap<>(variables) : new HashMap<>();
+        tracedVariables.put("trace", true);
+
+        long startTime = System.currentTimeMillis();
+        String caseName = launchMonitored(workflowName, launcher, tracedVariables);
+        if (caseName != null) {
+            workflowTracer.begin(caseName);
+            workflowTracer.recordSpan(caseName, "launch", startTime, System.currentTimeMillis() - startTime);
+        }
+        return caseName;
+    }
+
     /**
      * Launch a workflow with the given name, launcher, and input variables.
      *
@@ -72,12 +132,7 @@ public class WorkflowExecutor {
             }
 
             // Create WorkflowLaunch object for proper configuration
-            WorkflowLaunch wfLaunch = new WorkflowLaunch();
-            wfLaunch.setWorkflowName(workflowName);
-            wfLaunch.setWorkflowRef(workflowName);
-            wfLaunch.setCaseName(launcher + " - " + System.currentTimeMillis()); // Unique case name
-            wfLaunch.setLauncher(launcher); // CRITICAL: Set the launcher identity
-            wfLaunch.setVariables(variables);
+            WorkflowLaunch wfLaunch = buildLaunch(workflowName, launcher, variables);
 
             logger.info("Launching workflow with WorkflowLaunch object...");
             logger.info("  Case Name: {}", wfLaunch.getCaseName());
@@ -129,83 +184,169 @@ public class WorkflowExecutor {
     }
 
     /**
-     * Wait for a workflow to complete with timeout.
+     * Launch a workflow and keep its in-memory state for in-memory interaction.
      *
-     * @param workflowCaseId ID of the workflow case
-     * @param timeoutSeconds Maximum time to wait in seconds
-     * @return WorkflowCase with final status, or null if timeout
+     * Workflows with transient=true never persist their WorkItems, so waitForWorkItem()
+     * can never find them. This launches through Workflower.launchSession() instead and
+     * returns a session holding the in-memory WorkflowCase and current WorkItem; forms and
+     * approvals are then completed and advanced through Workflower without any DB polling.
+     * Works for non-transient workflows too.
+     *
+     * The session is bound to the calling thread's context (see TransientWorkflowSession).
+     *
+     * @param workflowName Name of the workflow to launch
+     * @param launcher Identity name who launches the workflow
+     * @param variables Input variables for the workflow
+     * @return Session handle, or null if the launch failed
      */
-    public WorkflowCase waitForCompletion(String workflowCaseId, int timeoutSeconds) {
-        logger.info("Waiting for workflow {} to complete (timeout: {}s)", workflowCaseId, timeoutSeconds);
+    public TransientWorkflowSession launchTransient(String workflowName, String launcher, Map<String, Object> variables) {
+        logger.info("========================================");
+        logger.info("Launching workflow session: {}", workflowName);
+        logger.info("Launcher: {}", launcher);
+        logger.info("========================================");
 
         SailPointContext context = remoteContext.getContext();
 
         try {
-            long startTime = System.currentTimeMillis();
-            long timeoutMillis = timeoutSeconds * 1000L;
-            int pollInterval = 2000; // Poll every 2 seconds
+            WorkflowLaunch wfLaunch = buildLaunch(workflowName, launcher, variables);
+            WorkflowSession session = new Workflower(context).launchSession(wfLaunch);
 
-            while (true) {
-                // Get current workflow case
-                WorkflowCase wfCase = context.getObjectById(WorkflowCase.class, workflowCaseId);
+            if (session == null) {
+                logger.error("✗ Workflow session launch returned null");
+                return null;
+            }
 
-                if (wfCase == null) {
-                    logger.error("✗ Workflow case not found: {}", workflowCaseId);
-                    return null;
-                }
+            WorkflowLaunch launch = session.getWorkflowLaunch();
+            if (session.getWorkflowCase() == null && session.getWorkItem() == null
+                    && launch != null && launch.getTaskResult() != null && launch.getTaskResult().hasErrors()) {
+                logger.error("✗ Workflow session failed: {}", launch.getTaskResult().getMessages());
+                return null;
+            }
 
-                TaskResult.CompletionStatus status = wfCase.getCompletionStatus();
-                logger.debug("Workflow status: {}", status);
+            TransientWorkflowSession handle = new TransientWorkflowSession(context, session, wfLaunch.getCaseName());
+            logger.info("✓ Workflow session launched: {}", handle);
+            return handle;
 
-                // Check if workflow is complete
-                // If status is not null, the workflow has completed (Success, Error, Warning, or Terminated)
-                // If status is null, the workflow is still executing
-                if (status != null) {
-                    logger.info("✓ Workflow completed with status: {}", status);
-                    return wfCase;
-                }
+        } catch (GeneralException e) {
+            logger.error("✗ Error launching workflow session: {}", workflowName, e);
+            return null;
+        }
+    }
 
-                // Check timeout
-                long elapsed = System.currentTimeMillis() - startTime;
-                if (elapsed >= timeoutMillis) {
-                    logger.warn("✗ Workflow timed out after {} seconds", timeoutSeconds);
-                    return wfCase; // Return current state even on timeout
-                }
+    /**
+     * Wait for a workflow to complete with timeout.
+     *
+     * The wait is registered with the shared WorkflowStatusPoller, which polls the
+     * completionStatus of all waiting cases with one query per tick (adaptive backoff
+     * from a few milliseconds). The full case is loaded once, when the wait ends.
+     *
+     * @param workflowCaseId ID or name of the workflow case (launchWorkflow() returns the name)
+     * @param timeoutSeconds Maximum time to wait in seconds
+     * @return WorkflowCase with final status, or null if not found
+     */
+    public WorkflowCase waitForCompletion(String workflowCaseId, int timeoutSeconds) {
+        logger.info("Waiting for workflow {} to complete (timeout: {}s)", workflowCaseId, timeoutSeconds);
+
+        long startTime = System.currentTimeMillis();
+        CompletableFuture<WorkflowStatusPoller.CaseStatus> future = statusPoller.register(workflowCaseId);
+
+        try {
+            WorkflowStatusPoller.CaseStatus status = future.get(timeoutSeconds, TimeUnit.SECONDS);
+            workflowTracer.recordSpan(workflowCaseId, "waitForCompletion", startTime, System.currentTimeMillis() - startTime);
 
-                // Wait before next poll
-                Thread.sleep(pollInterval);
+            if (!status.isFound()) {
+                logger.error("✗ Workflow case not found: {}", workflowCaseId);
+                return null;
             }
 
+            logger.info("✓ Workflow completed with status: {} ({} ms)",
+                status.getCompletionStatus(), System.currentTimeMillis() - startTime);
+            // The poller matched the key as ID or name; load by the ID it resolved
+            return loadCase(status.getId() != null ? status.getId() : workflowCaseId, status.getCompletionStatus());
+
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            logger.warn("✗ Workflow timed out after {} seconds", timeoutSeconds);
+            workflowTracer.recordSpan(workflowCaseId, "waitForCompletion (timed out)", startTime, System.currentTimeMillis() - startTime);
+            return loadCaseQuietly(workflowCaseId); // Return current state even on timeout
+        } catch (ExecutionException e) {
+            logger.error("✗ Error waiting for workflow completion", e.getCause());
+            return null;
+        } catch (CancellationException e) {
+            logger.warn("✗ Wait for workflow {} was cancelled", workflowCaseId);
+            return null;
         } catch (GeneralException e) {
             logger.error("✗ Error waiting for workflow completion", e);
             return null;
         } catch (InterruptedException e) {
+            future.cancel(false);
             logger.error("✗ Interrupted while waiting for workflow", e);
             Thread.currentThread().interrupt();
             return null;
         }
     }
 
+    /**
+     * Wait for many workflows at once under a single deadline.
+     * All cases are polled together by the shared status poller.
+     *
+     * @param workflowCaseIds IDs (or names) of the workflow cases
+     * @param timeoutSeconds Maximum time to wait for all of them
+     * @return Final completion status per case; cases that timed out or were not found are absent
+     */
+    public Map<String, TaskResult.CompletionStatus> waitForCompletion(Collection<String> workflowCaseIds, int timeoutSeconds) {
+        logger.info("Waiting for {} workflows to complete (timeout: {}s)", workflowCaseIds.size(), timeoutSeconds);
+
+        long deadline = System.currentTimeMillis() + timeoutSeconds * 1000L;
+        Map<String, CompletableFuture<WorkflowStatusPoller.CaseStatus>> futures = new LinkedHashMap<>();
+        for (String id : workflowCaseIds) {
+            futures.put(id, statusPoller.register(id));
+        }
+
+        Map<String, TaskResult.CompletionStatus> results = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<WorkflowStatusPoller.CaseStatus>> entry : futures.entrySet()) {
+            CompletableFuture<WorkflowStatusPoller.CaseStatus> future = entry.getValue();
+            try {
+                long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                WorkflowStatusPoller.CaseStatus status = future.get(remaining, TimeUnit.MILLISECONDS);
+                if (status.isFound()) {
+                    results.put(entry.getKey(), status.getCompletionStatus());
+                }
+            } catch (TimeoutException | ExecutionException | CancellationException e) {
+                future.cancel(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // Stop polling for anything left over (timeout or interrupt)
+        futures.values().forEach(future -> future.cancel(false));
+
+        logger.info("✓ {}/{} workflows completed", results.size(), workflowCaseIds.size());
+        return results;
+    }
+
     /**
      * Get the current status of a workflow case.
      *
-     * @param workflowCaseId ID of the workflow case
+     * @param workflowCaseId ID or name of the workflow case
      * @return Status string (e.g., "Executing", "Completed", "Terminated")
      */
     public String getWorkflowStatus(String workflowCaseId) {
         logger.debug("Getting status for workflow: {}", workflowCaseId);
 
-        SailPointContext context = remoteContext.getContext();
-
         try {
-            WorkflowCase wfCase = context.getObjectById(WorkflowCase.class, workflowCaseId);
+            // Only the status column is read; the case XML is never loaded
+            ProjectionRow row = remoteContext.projectOne(WorkflowCase.class,
+                Filter.or(Filter.eq("id", workflowCaseId), Filter.eq("name", workflowCaseId)), "completionStatus");
 
-            if (wfCase == null) {
+            if (row == null) {
                 logger.warn("Workflow case not found: {}", workflowCaseId);
                 return "Not Found";
             }
 
-            TaskResult.CompletionStatus status = wfCase.getCompletionStatus();
+            TaskResult.CompletionStatus status = row.getEnum("completionStatus", TaskResult.CompletionStatus.class);
             logger.debug("Workflow {} status: {}", workflowCaseId, status);
 
             return status != null ? status.toString() : "Unknown";
@@ -216,6 +357,37 @@ public class WorkflowExecutor {
         }
     }
 
+    /**
+     * Get the current status of many workflow cases with one query per
+     * iiq.context.projection.batchSize cases.
+     *
+     * @param workflowCaseIds IDs of the workflow cases
+     * @return Status string per ID ("Executing" while running, "Not Found" if missing)
+     */
+    public Map<String, String> getWorkflowStatuses(Collection<String> workflowCaseIds) {
+        logger.debug("Getting status for {} workflows", workflowCaseIds.size());
+
+        Map<String, String> statuses = new LinkedHashMap<>();
+        try {
+            Map<String, ProjectionRow> rows = remoteContext.projectByIds(WorkflowCase.class, workflowCaseIds, "completionStatus");
+            for (String id : workflowCaseIds) {
+                ProjectionRow row = rows.get(id);
+                if (row == null) {
+                    statuses.put(id, "Not Found");
+                } else {
+                    TaskResult.CompletionStatus status = row.getEnum("completionStatus", TaskResult.CompletionStatus.class);
+                    statuses.put(id, status != null ? status.toString() : "Executing");
+                }
+            }
+        } catch (GeneralException e) {
+            logger.error("Error getting workflow statuses", e);
+            for (String id : workflowCaseIds) {
+                statuses.putIfAbsent(id, "Error");
+            }
+        }
+        return statuses;
+    }
+
     /**
      * Get the workflow case by ID or NAME.
      * This method tries both ID lookup and name lookup.
@@ -293,4 +465,137 @@ public class WorkflowExecutor {
             return false;
         }
     }
+
+    /**
+     * Launch a workflow on an in-memory copy of its definition with monitoring enabled on
+     * every step, so the case writes ProcessLog rows without touching the stored definition
+     *
+     * @return Workflow case name if successful, null if failed
+     */
+    private String launchMonitored(String workflowName, String launcher, Map<String, Object> variables) {
+        logger.info("Launching traced workflow: {} (launcher: {})", workflowName, launcher);
+
+        SailPointContext context = remoteContext.getContext();
+
+        try {
+            Workflow workflow = context.getObjectByName(Workflow.class, workflowName);
+            if (workflow == null) {
+                logger.error("✗ Workflow not found: {}", workflowName);
+                return null;
+            }
+
+            Workflow monitored = (Workflow) workflow.deepCopy((XMLReferenceResolver) context);
+            int monitoredSteps = 0;
+            if (monitored.getSteps() != null) {
+                for (Workflow.Step step : monitored.getSteps()) {
+                    step.setMonitored(true);
+                    monitoredSteps++;
+                }
+            }
+
+            WorkflowLaunch wfLaunch = buildLaunch(workflowName, launcher, variables);
+            Attributes<String, Object> launchVariables = new Attributes<>();
+            if (variables != null) {
+                launchVariables.putAll(variables);
+            }
+            launchVariables.put("launcher", launcher);
+
+            WorkflowCase wfCase = new Workflower(context).launchSafely(monitored, wfLaunch.getCaseName(), launchVariables);
+            if (wfCase == null) {
+                logger.error("✗ Traced workflow launch returned WorkflowCase = null");
+                return null;
+            }
+
+            logger.info("✓ Traced workflow launched: {} ({} steps monitored)", wfCase.getName(), monitoredSteps);
+            if (wfCase.getCompletionStatus() == TaskResult.CompletionStatus.Error) {
+                logger.warn("⚠ Traced workflow failed immediately: {}", wfCase.getMessages());
+            }
+            return wfCase.getName();
+
+        } catch (GeneralException e) {
+            logger.error("✗ Error launching traced workflow: {}", workflowName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Build the WorkflowLaunch for a launch, with a unique case name
+     */
+    private WorkflowLaunch buildLaunch(String workflowName, String launcher, Map<String, Object> variables) {
+        WorkflowLaunch wfLaunch = new WorkflowLaunch();
+        wfLaunch.setWorkflowName(workflowName);
+        wfLaunch.setWorkflowRef(workflowName);
+        wfLaunch.setCaseName(launcher + " - " + System.currentTimeMillis() + "-" + LAUNCH_SEQUENCE.incrementAndGet()); // Unique case name
+        wfLaunch.setLauncher(launcher); // CRITICAL: Set the launcher identity
+        wfLaunch.setVariables(variables);
+        return wfLaunch;
+    }
+
+    /**
+     * Load the full case (by ID or name) once the wait is over. If the session still holds
+     * a copy loaded before completion, it is evicted so the final state is read.
+     */
+    private WorkflowCase loadCase(String workflowCaseIdOrName, TaskResult.CompletionStatus expectedStatus) throws GeneralException {
+        SailPointContext context = remoteContext.getContext();
+        WorkflowCase wfCase = findCase(context, workflowCaseIdOrName);
+        if (wfCase != null && expectedStatus != null && wfCase.getCompletionStatus() != expectedStatus) {
+            context.decache(wfCase);
+            wfCase = context.getObjectById(WorkflowCase.class, wfCase.getId());
+        }
+        return wfCase;
+    }
+
+    private WorkflowCase findCase(SailPointContext context, String workflowCaseIdOrName) throws GeneralException {
+        WorkflowCase wfCase = context.getObjectById(WorkflowCase.class, workflowCaseIdOrName);
+        return wfCase != null ? wfCase : context.getObjectByName(WorkflowCase.class, workflowCaseIdOrName);
+    }
+
+    private WorkflowCase loadCaseQuietly(String workflowCaseId) {
+        try {
+            return loadCase(workflowCaseId, null);
+        } catch (GeneralException e) {
+            logger.error("Error loading workflow case", e);
+            return null;
+        }
+    }
+
+    // ===== Async API =====
+    // Each call runs on the async executor with its own leased context.
+
+    /**
+     * Asynchronous variant of {@link #launchWorkflow(String, String, Map)}.
+     *
+     * @return Future of the workflow case ID (null if the launch failed)
+     */
+    public CompletableFuture<String> launchWorkflowAsync(String workflowName, String launcher, Map<String, Object> variables) {
+        return asyncExecutor.supplyAsync(() -> launchWorkflow(workflowName, launcher, variables));
+    }
+
+    /**
+     * Asynchronous variant of {@link #launchWorkflow(String, Map)}
+     */
+    public CompletableFuture<String> launchWorkflowAsync(String workflowName, Map<String, Object> variables) {
+        return asyncExecutor.supplyAsync(() -> launchWorkflow(workflowName, variables));
+    }
+
+    /**
+     * Asynchronous variant of {@link #waitForCompletion(String, int)}
+     */
+    public CompletableFuture<WorkflowCase> waitForCompletionAsync(String workflowCaseId, int timeoutSeconds) {
+        return asyncExecutor.supplyAsync(() -> waitForCompletion(workflowCaseId, timeoutSeconds));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getWorkflowStatus(String)}
+     */
+    public CompletableFuture<String> getWorkflowStatusAsync(String workflowCaseId) {
+        return asyncExecutor.supplyAsync(() -> getWorkflowStatus(workflowCaseId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #cancelWorkflow(String)}
+     */
+    public CompletableFuture<Boolean> cancelWorkflowAsync(String workflowCaseId) {
+        return asyncExecutor.supplyAsync(() -> cancelWorkflow(workflowCaseId));
+    }
 }
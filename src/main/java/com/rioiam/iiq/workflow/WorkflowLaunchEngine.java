@@ -0,0 +1,282 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.AsyncContextExecutor;
+import com.rioiam.iiq.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Launches many workflows concurrently with bounded parallelism.
+ *
+ * Launch requests are consumed lazily from a list or stream. At most
+ * workflow.launch.concurrency launches are in flight at a time, each on its own
+ * pooled context; the caller blocks (backpressure) until a slot frees up, so
+ * arbitrarily large request streams never pile up in memory as pending tasks.
+ *
+ * Usage:
+ * <pre>
+ * List&lt;LaunchRequest&gt; requests = ...;
+ * LaunchReport report = launchEngine.launchAll(requests);
+ * report.getCaseNames();
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkflowLaunchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowLaunchEngine.class);
+
+    @Autowired
+    private WorkflowExecutor workflowExecutor;
+
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
+    @Value("${workflow.launch.concurrency:8}")
+    private int defaultConcurrency;
+
+    /**
+     * Launch all requests using the configured concurrency limit
+     */
+    public LaunchReport launchAll(Iterable<LaunchRequest> requests) {
+        return launchAll(requests, defaultConcurrency);
+    }
+
+    /**
+     * Launch all requests with at most maxConcurrent launches in flight.
+     * Blocks until every launch has finished.
+     *
+     * @param requests Launch requests, consumed lazily (a Stream can be passed as stream::iterator)
+     * @param maxConcurrent Concurrency limit (effectively capped by the context pool size)
+     * @return Per-launch outcomes in request order, with timing
+     */
+    public LaunchReport launchAll(Iterable<LaunchRequest> requests, int maxConcurrent) {
+        int concurrency = Math.max(1, maxConcurrent);
+        logger.info("========================================");
+        logger.info("Launching workflows (concurrency: {})", concurrency);
+        logger.info("========================================");
+
+        Semaphore permits = new Semaphore(concurrency);
+        LatencyHistogram latency = new LatencyHistogram();
+        List<CompletableFuture<LaunchOutcome>> futures = new ArrayList<>();
+        long startTime = System.currentTimeMillis();
+
+        int index = 0;
+        try {
+            for (LaunchRequest request : requests) {
+                permits.acquire();
+                int position = index++;
+                CompletableFuture<LaunchOutcome> future;
+                try {
+                    future = asyncExecutor.supplyAsync(() -> launch(position, request, latency));
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                futures.add(future.whenComplete((outcome, error) -> permits.release())
+                    .exceptionally(error -> new LaunchOutcome(position, request, null, 0, error.getMessage())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("⚠ Interrupted after submitting {} launches", index);
+        }
+
+        List<LaunchOutcome> outcomes = AsyncContextExecutor.allOf(futures).join();
+        LaunchReport report = new LaunchReport(outcomes, System.currentTimeMillis() - startTime, latency.snapshot());
+        logger.info("✓ {}", report);
+        return report;
+    }
+
+    // ===== Helper Methods =====
+
+    private LaunchOutcome launch(int index, LaunchRequest request, LatencyHistogram latency) {
+        long start = System.nanoTime();
+        String caseName = workflowExecutor.launchWorkflow(request.getWorkflowName(), request.getLauncher(), request.getVariables());
+        long elapsedNanos = System.nanoTime() - start;
+        latency.record(elapsedNanos);
+        return new LaunchOutcome(index, request, caseName, elapsedNanos / 1_000_000,
+            caseName == null ? "Launch failed (see log)" : null);
+    }
+
+    /**
+     * A workflow to launch
+     */
+    public static final class LaunchRequest {
+        private final String workflowName;
+        private final String launcher;
+        private final Map<String, Object> variables;
+
+        public LaunchRequest(String workflowName, String launcher, Map<String, Object> variables) {
+            this.workflowName = workflowName;
+            this.launcher = launcher;
+            this.variables = variables;
+        }
+
+        public String getWorkflowName() {
+            return workflowName;
+        }
+
+        public String getLauncher() {
+            return launcher;
+        }
+
+        public Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+
+    /**
+     * Outcome of a single launch
+     */
+    public static final class LaunchOutcome {
+        private final int index;
+        private final LaunchRequest request;
+        private final String caseName;
+        private final long durationMillis;
+        private final String error;
+
+        LaunchOutcome(int index, LaunchRequest request, String caseName, long durationMillis, String error) {
+            this.index = index;
+            this.request = request;
+            this.caseName = caseName;
+            this.durationMillis = durationMillis;
+            this.error = error;
+        }
+
+        /**
+         * Position of the request in the submitted sequence (0-based)
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public LaunchRequest getRequest() {
+            return request;
+        }
+
+        /**
+         * Workflow case name, or null if the launch failed
+         */
+        public String getCaseName() {
+            return caseName;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return caseName != null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess()
+                ? String.format("Launch[%d: %s in %dms]", index, caseName, durationMillis)
+                : String.format("Launch[%d: FAILED - %s]", index, error);
+        }
+    }
+
+    /**
+     * Outcomes and timing of a launch run
+     */
+    public static final class LaunchReport {
+        private final List<LaunchOutcome> outcomes;
+        private final long durationMillis;
+        private final LatencyHistogram.Snapshot latency;
+
+        LaunchReport(List<LaunchOutcome> outcomes, long durationMillis, LatencyHistogram.Snapshot latency) {
+            this.outcomes = Collections.unmodifiableList(outcomes);
+            this.durationMillis = durationMillis;
+            this.latency = latency;
+        }
+
+        /**
+         * Per-launch outcomes, in request order
+         */
+        public List<LaunchOutcome> getOutcomes() {
+            return outcomes;
+        }
+
+        /**
+         * Case names of the successful launches, in request order
+         */
+        public List<String> getCaseNames() {
+            List<String> names = new ArrayList<>();
+            for (LaunchOutcome outcome : outcomes) {
+                if (outcome.isSuccess()) {
+                    names.add(outcome.getCaseName());
+                }
+            }
+            return names;
+        }
+
+        public int getSuccessCount() {
+            int count = 0;
+            for (LaunchOutcome outcome : outcomes) {
+                if (outcome.isSuccess()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        public int getFailureCount() {
+            return outcomes.size() - getSuccessCount();
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Launches per second over the whole run
+         */
+        public double getThroughput() {
+            return durationMillis > 0 ? outcomes.size() * 1000.0 / durationMillis : 0.0;
+        }
+
+        /**
+         * Per-launch latency percentiles
+         */
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * Summary suitable for statistics output
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("launched", outcomes.size());
+            summary.put("succeeded", getSuccessCount());
+            summary.put("failed", getFailureCount());
+            summary.put("durationMs", durationMillis);
+            summary.put("throughputPerSecond", Math.round(getThroughput() * 100) / 100.0);
+            summary.put("latency", latency.toMap());
+            return summary;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("LaunchReport[launched=%d, succeeded=%d, failed=%d, duration=%dms, %.2f/s, %s]",
+                outcomes.size(), getSuccessCount(), getFailureCount(), durationMillis, getThroughput(), latency);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.workflow.WorkflowScenario.Action;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.object.WorkItem;
+import sailpoint.object.WorkflowCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records functional workflow scenarios for later replay as load tests.
+ *
+ * Test code drives a workflow through a RecordingSession instead of calling
+ * WorkflowExecutor and WorkItemHandler directly; the launch and every successful
+ * work item completion are captured as a WorkflowScenario.
+ *
+ * Usage:
+ * <pre>
+ * RecordingSession session = recorder.launch("activation", WORKFLOW_NAME, LAUNCHER, variables);
+ * session.completeForm(initiateFormData);
+ * session.completeForm(submitFormData);
+ * session.approve("Approved");
+ * session.waitForCompletion(60);
+ * recorder.save(new File("target/scenarios/activation.yaml"));
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkflowRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowRecorder.class);
+
+    @Autowired
+    private WorkflowExecutor workflowExecutor;
+
+    @Autowired
+    private WorkItemHandler workItemHandler;
+
+    @Value("${workflow.replay.workItemTimeoutSeconds:30}")
+    private int workItemTimeoutSeconds;
+
+    private final List<WorkflowScenario> recorded = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Launch a workflow and start recording it
+     *
+     * @param scenarioName Name for the recorded scenario
+     * @return Recording session, or null if the launch failed
+     */
+    public RecordingSession launch(String scenarioName, String workflowName, String launcher, Map<String, Object> variables) {
+        WorkflowScenario scenario = new WorkflowScenario(scenarioName, workflowName, launcher, variables);
+        String caseName = workflowExecutor.launchWorkflow(workflowName, launcher, variables);
+        if (caseName == null) {
+            logger.error("✗ Not recording scenario '{}': launch failed", scenarioName);
+            return null;
+        }
+        recorded.add(scenario);
+        logger.info("Recording scenario '{}' ({})", scenarioName, caseName);
+        return new RecordingSession(scenario, caseName);
+    }
+
+    /**
+     * Scenarios recorded so far
+     */
+    public List<WorkflowScenario> getRecordedScenarios() {
+        synchronized (recorded) {
+            return new ArrayList<>(recorded);
+        }
+    }
+
+    /**
+     * Save all recorded scenarios (YAML for .yml/.yaml, otherwise JSON)
+     */
+    public void save(File file) throws IOException {
+        List<WorkflowScenario> scenarios = getRecordedScenarios();
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        WorkflowScenario.save(scenarios, file);
+        logger.info("✓ Saved {} scenarios to {}", scenarios.size(), file);
+    }
+
+    public void clear() {
+        recorded.clear();
+    }
+
+    /**
+     * Drives one recorded workflow; each successful action is appended to the scenario
+     */
+    public final class RecordingSession {
+        private final WorkflowScenario scenario;
+        private final String caseName;
+        private final long launchedAt = System.currentTimeMillis();
+
+        private RecordingSession(WorkflowScenario scenario, String caseName) {
+            this.scenario = scenario;
+            this.caseName = caseName;
+        }
+
+        public String getCaseName() {
+            return caseName;
+        }
+
+        public WorkflowScenario getScenario() {
+            return scenario;
+        }
+
+        /**
+         * Wait for the next form work item and complete it with the given data
+         */
+        public boolean completeForm(Map<String, Object> formData) {
+            WorkItem form = workItemHandler.waitForWorkItem(caseName, WorkItem.Type.Form, workItemTimeoutSeconds);
+            boolean completed = form != null && workItemHandler.completeFormWorkItem(form.getId(), formData);
+            return record(completed, Action.FORM, formData, null);
+        }
+
+        /**
+         * Wait for the next approval work item and approve it
+         */
+        public boolean approve(String comments) {
+            WorkItem approval = workItemHandler.waitForWorkItem(caseName, WorkItem.Type.Approval, workItemTimeoutSeconds);
+            boolean approved = approval != null && workItemHandler.approveWorkItem(approval.getId(), comments);
+            return record(approved, Action.APPROVE, null, comments);
+        }
+
+        /**
+         * Wait for the next approval work item and reject it
+         */
+        public boolean reject(String comments) {
+            WorkItem approval = workItemHandler.waitForWorkItem(caseName, WorkItem.Type.Approval, workItemTimeoutSeconds);
+            boolean rejected = approval != null && workItemHandler.rejectWorkItem(approval.getId(), comments);
+            return record(rejected, Action.REJECT, null, comments);
+        }
+
+        /**
+         * Wait for the workflow to complete
+         */
+        public WorkflowCase waitForCompletion(int timeoutSeconds) {
+            WorkflowCase wfCase = workflowExecutor.waitForCompletion(caseName, timeoutSeconds);
+            record(wfCase != null && wfCase.getCompletionStatus() != null, Action.COMPLETE, null, null);
+            return wfCase;
+        }
+
+        private boolean record(boolean success, Action action, Map<String, Object> data, String comments) {
+            if (success) {
+                scenario.getSteps().add(new WorkflowScenario.Step(action, data, comments,
+                    System.currentTimeMillis() - launchedAt));
+            } else {
+                logger.warn("⚠ {} step of scenario '{}' failed and was not recorded", action, scenario.getName());
+            }
+            return success;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.AsyncContextExecutor;
+import com.rioiam.iiq.metrics.OperationMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.object.WorkItem;
+import sailpoint.object.WorkflowCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Re-drives recorded WorkflowScenarios as a load test.
+ *
+ * Sessions are started at a fixed rate (sessions per second, 0 = as fast as possible)
+ * with at most `concurrency` sessions in flight, each on its own pooled context.
+ * Every phase is timed separately:
+ * - launch, waitForWorkItem, form, approve, reject, completion, and session (end to end)
+ *
+ * Usage:
+ * <pre>
+ * List&lt;WorkflowScenario&gt; scenarios = WorkflowScenario.load(new File("scenarios/activation.yaml"));
+ * ReplayReport report = replayer.replay(scenarios, 10, 2.0, 8);
+ * report.getPhases().get("form").getLatency();
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkflowReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowReplayer.class);
+
+    @Autowired
+    private WorkflowExecutor workflowExecutor;
+
+    @Autowired
+    private WorkItemHandler workItemHandler;
+
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
+    @Value("${workflow.replay.workItemTimeoutSeconds:30}")
+    private int workItemTimeoutSeconds;
+
+    @Value("${workflow.replay.completionTimeoutSeconds:300}")
+    private int completionTimeoutSeconds;
+
+    /**
+     * Replay scenarios.
+     *
+     * @param scenarios Scenarios to replay, cycled in order
+     * @param iterations Times to replay the whole list
+     * @param ratePerSecond Session starts per second (0 or less = unpaced)
+     * @param concurrency Maximum sessions in flight
+     * @return Per-session outcomes and per-phase latency
+     */
+    public ReplayReport replay(List<WorkflowScenario> scenarios, int iterations, double ratePerSecond, int concurrency) {
+        int total = scenarios.size() * Math.max(0, iterations);
+        logger.info("========================================");
+        logger.info("Replaying {} sessions ({} scenarios x {}, rate: {}/s, concurrency: {})",
+            total, scenarios.size(), iterations, ratePerSecond > 0 ? ratePerSecond : "unlimited", concurrency);
+        logger.info("========================================");
+
+        OperationMetrics phases = new OperationMetrics();
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        List<CompletableFuture<SessionOutcome>> futures = new ArrayList<>(total);
+        long intervalNanos = ratePerSecond > 0 ? (long) (1_000_000_000L / ratePerSecond) : 0;
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        try {
+            for (int i = 0; i < total; i++) {
+                WorkflowScenario scenario = scenarios.get(i % scenarios.size());
+                pace(startNanos + i * intervalNanos);
+                permits.acquire();
+                CompletableFuture<SessionOutcome> future;
+                try {
+                    future = asyncExecutor.supplyAsync(() -> runSession(scenario, phases));
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                futures.add(future.whenComplete((outcome, error) -> permits.release())
+                    .exceptionally(error -> new SessionOutcome(scenario.getName(), null, 0, error.getMessage())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("⚠ Interrupted after starting {} sessions", futures.size());
+        }
+
+        List<SessionOutcome> sessions = AsyncContextExecutor.allOf(futures).join();
+        ReplayReport report = new ReplayReport(sessions, phases.snapshot(), System.currentTimeMillis() - startTime);
+        logger.info("✓ {}", report);
+        return report;
+    }
+
+    // ===== Helper Methods =====
+
+    private void pace(long targetNanos) throws InterruptedException {
+        long waitNanos = targetNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+
+    private SessionOutcome runSession(WorkflowScenario scenario, OperationMetrics phases) {
+        long sessionStart = System.nanoTime();
+        String caseName = null;
+        String error = null;
+
+        try {
+            long start = System.nanoTime();
+            caseName = workflowExecutor.launchWorkflow(scenario.getWorkflowName(), scenario.getLauncher(),
+                scenario.toLaunchVariables());
+            phases.record("launch", start, caseName != null);
+            if (caseName == null) {
+                error = "Launch failed";
+            }
+
+            for (WorkflowScenario.Step step : scenario.getSteps()) {
+                if (error != null) {
+                    break;
+                }
+                error = runStep(caseName, step, phases);
+            }
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+        }
+
+        phases.record("session", sessionStart, error == null);
+        return new SessionOutcome(scenario.getName(), caseName, (System.nanoTime() - sessionStart) / 1_000_000, error);
+    }
+
+    /**
+     * @return Error message, or null if the step succeeded
+     */
+    private String runStep(String caseName, WorkflowScenario.Step step, OperationMetrics phases) {
+        if (step.getAction() == WorkflowScenario.Action.COMPLETE) {
+            long start = System.nanoTime();
+            WorkflowCase wfCase = workflowExecutor.waitForCompletion(caseName, completionTimeoutSeconds);
+            boolean completed = wfCase != null && wfCase.getCompletionStatus() != null;
+            phases.record("completion", start, completed);
+            return completed ? null : "Workflow did not complete";
+        }
+
+        WorkItem.Type type = step.getAction() == WorkflowScenario.Action.FORM ? WorkItem.Type.Form : WorkItem.Type.Approval;
+        long start = System.nanoTime();
+        WorkItem workItem = workItemHandler.waitForWorkItem(caseName, type, workItemTimeoutSeconds);
+        phases.record("waitForWorkItem", start, workItem != null);
+        if (workItem == null) {
+            return "No " + type + " work item for " + step.getAction();
+        }
+
+        start = System.nanoTime();
+        boolean success;
+        switch (step.getAction()) {
+            case FORM:
+                success = workItemHandler.completeFormWorkItem(workItem.getId(), step.getData());
+                phases.record("form", start, success);
+                break;
+            case APPROVE:
+                success = workItemHandler.approveWorkItem(workItem.getId(), step.getComments());
+                phases.record("approve", start, success);
+                break;
+            default:
+                success = workItemHandler.rejectWorkItem(workItem.getId(), step.getComments());
+                phases.record("reject", start, success);
+                break;
+        }
+        return success ? null : step.getAction() + " failed for work item " + workItem.getId();
+    }
+
+    /**
+     * Outcome of one replayed session
+     */
+    public static final class SessionOutcome {
+        private final String scenarioName;
+        private final String caseName;
+        private final long durationMillis;
+        private final String error;
+
+        SessionOutcome(String scenarioName, String caseName, long durationMillis, String error) {
+            this.scenarioName = scenarioName;
+            this.caseName = caseName;
+            this.durationMillis = durationMillis;
+            this.error = error;
+        }
+
+        public String getScenarioName() {
+            return scenarioName;
+        }
+
+        public String getCaseName() {
+            return caseName;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess()
+                ? String.format("Session[%s: %s in %dms]", scenarioName, caseName, durationMillis)
+                : String.format("Session[%s: FAILED - %s]", scenarioName, error);
+        }
+    }
+
+    /**
+     * Outcome of a replay run
+     */
+    public static final class ReplayReport {
+        private final List<SessionOutcome> sessions;
+        private final OperationMetrics.Snapshot phases;
+        private final long durationMillis;
+
+        ReplayReport(List<SessionOutcome> sessions, OperationMetrics.Snapshot phases, long durationMillis) {
+            this.sessions = Collections.unmodifiableList(sessions);
+            this.phases = phases;
+            this.durationMillis = durationMillis;
+        }
+
+        public List<SessionOutcome> getSessions() {
+            return sessions;
+        }
+
+        /**
+         * Latency and error counts per phase
+         */
+        public Map<String, OperationMetrics.OperationSnapshot> getPhases() {
+            return phases.getOperations();
+        }
+
+        public int getSuccessCount() {
+            return (int) sessions.stream().filter(SessionOutcome::isSuccess).count();
+        }
+
+        public int getFailureCount() {
+            return sessions.size() - getSuccessCount();
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Completed sessions per second over the whole run
+         */
+        public double getThroughput() {
+            return durationMillis > 0 ? getSuccessCount() * 1000.0 / durationMillis : 0.0;
+        }
+
+        /**
+         * Summary suitable for statistics output
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("sessions", sessions.size());
+            summary.put("succeeded", getSuccessCount());
+            summary.put("failed", getFailureCount());
+            summary.put("durationMs", durationMillis);
+            summary.put("throughputPerSecond", Math.round(getThroughput() * 100) / 100.0);
+            Map<String, Object> phaseStats = new LinkedHashMap<>();
+            for (Map.Entry<String, OperationMetrics.OperationSnapshot> entry : getPhases().entrySet()) {
+                phaseStats.put(entry.getKey(), entry.getValue().toMap());
+            }
+            summary.put("phases", phaseStats);
+            return summary;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ReplayReport[sessions=%d, succeeded=%d, failed=%d, duration=%dms, %.2f/s]",
+                sessions.size(), getSuccessCount(), getFailureCount(), durationMillis, getThroughput());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.rioiam.iiq.workflow;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * A recorded workflow session: the launch and every work item completion that followed.
+ *
+ * Scenarios are captured by WorkflowRecorder, stored as JSON or YAML (by file extension)
+ * and re-driven by WorkflowReplayer. Variable values that have no JSON form
+ * (Locale, TimeZone, Date) are stored as strings with a type hint and restored on replay.
+ *
+ * @author RIOIAM Framework
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class WorkflowScenario {
+
+    public enum Action {
+        FORM, APPROVE, REJECT, COMPLETE
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final ObjectMapper YAML = new ObjectMapper(new YAMLFactory());
+
+    private String name;
+    private String workflowName;
+    private String launcher;
+    private Map<String, Object> variables = new LinkedHashMap<>();
+    private Map<String, String> variableTypes = new LinkedHashMap<>();
+    private List<Step> steps = new ArrayList<>();
+
+    public WorkflowScenario() {
+    }
+
+    public WorkflowScenario(String name, String workflowName, String launcher, Map<String, Object> variables) {
+        this.name = name;
+        this.workflowName = workflowName;
+        this.launcher = launcher;
+        if (variables != null) {
+            for (Map.Entry<String, Object> entry : variables.entrySet()) {
+                this.variables.put(entry.getKey(), encode(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Variables with Locale/TimeZone/Date values restored, ready to launch
+     */
+    public Map<String, Object> toLaunchVariables() {
+        Map<String, Object> launchVariables = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : variables.entrySet()) {
+            launchVariables.put(entry.getKey(), decode(variableTypes.get(entry.getKey()), entry.getValue()));
+        }
+        return launchVariables;
+    }
+
+    /**
+     * Save scenarios as YAML (.yml/.yaml) or JSON (any other extension)
+     */
+    public static void save(List<WorkflowScenario> scenarios, File file) throws IOException {
+        mapperFor(file).writerWithDefaultPrettyPrinter().writeValue(file, scenarios);
+    }
+
+    /**
+     * Load scenarios saved with {@link #save(List, File)}
+     */
+    public static List<WorkflowScenario> load(File file) throws IOException {
+        return mapperFor(file).readValue(file, new TypeReference<List<WorkflowScenario>>() { });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getWorkflowName() {
+        return workflowName;
+    }
+
+    public void setWorkflowName(String workflowName) {
+        this.workflowName = workflowName;
+    }
+
+    public String getLauncher() {
+        return launcher;
+    }
+
+    public void setLauncher(String launcher) {
+        this.launcher = launcher;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(Map<String, Object> variables) {
+        this.variables = variables;
+    }
+
+    public Map<String, String> getVariableTypes() {
+        return variableTypes;
+    }
+
+    public void setVariableTypes(Map<String, String> variableTypes) {
+        this.variableTypes = variableTypes;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    public void setSteps(List<Step> steps) {
+        this.steps = steps;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WorkflowScenario[%s: %s by %s, %d steps]", name, workflowName, launcher, steps.size());
+    }
+
+    // ===== Helper Methods =====
+
+    private static ObjectMapper mapperFor(File file) {
+        String fileName = file.getName().toLowerCase();
+        return fileName.endsWith(".yml") || fileName.endsWith(".yaml") ? YAML : JSON;
+    }
+
+    private Object encode(String key, Object value) {
+        if (value instanceof Locale) {
+            variableTypes.put(key, "Locale");
+            return ((Locale) value).toLanguageTag();
+        }
+        if (value instanceof TimeZone) {
+            variableTypes.put(key, "TimeZone");
+            return ((TimeZone) value).getID();
+        }
+        if (value instanceof Date) {
+            variableTypes.put(key, "Date");
+            return ((Date) value).getTime();
+        }
+        return value;
+    }
+
+    private static Object decode(String type, Object value) {
+        if (type == null || value == null) {
+            return value;
+        }
+        switch (type) {
+            case "Locale":
+                return Locale.forLanguageTag(value.toString());
+            case "TimeZone":
+                return TimeZone.getTimeZone(value.toString());
+            case "Date":
+                return new Date(((Number) value).longValue());
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * One work item completion (or the final wait for completion)
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class Step {
+        private Action action;
+        private Map<String, Object> data = new LinkedHashMap<>();
+        private String comments;
+        private long offsetMillis;
+
+        public Step() {
+        }
+
+        public Step(Action action, Map<String, Object> data, String comments, long offsetMillis) {
+            this.action = action;
+            if (data != null) {
+                this.data.putAll(data);
+            }
+            this.comments = comments;
+            this.offsetMillis = offsetMillis;
+        }
+
+        public Action getAction() {
+            return action;
+        }
+
+        public void setAction(Action action) {
+            this.action = action;
+        }
+
+        /**
+         * Form field values (FORM steps)
+         */
+        public Map<String, Object> getData() {
+            return data;
+        }
+
+        public void setData(Map<String, Object> data) {
+            this.data = data;
+        }
+
+        public String getComments() {
+            return comments;
+        }
+
+        public void setComments(String comments) {
+            this.comments = comments;
+        }
+
+        /**
+         * Time since launch when the step was recorded (informational; replay is paced by rate)
+         */
+        public long getOffsetMillis() {
+            return offsetMillis;
+        }
+
+        public void setOffsetMillis(long offsetMillis) {
+            this.offsetMillis = offsetMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Step[%s @ %dms]", action, offsetMillis);
+        }
+    }
+}
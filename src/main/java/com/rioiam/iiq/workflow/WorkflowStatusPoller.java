@@ -0,0 +1,338 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Filter;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.TaskResult;
+import sailpoint.object.WorkflowCase;
+import sailpoint.tools.GeneralException;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared completion poller for workflow cases.
+ *
+ * Callers register a case ID (or name) and each get their own future. A single background thread
+ * keeps the set of outstanding cases and, on each tick, fetches the completionStatus
+ * of all of them with one IN-filter projection query (per workflow.poll.batchSize cases),
+ * completing the futures of finished cases. Ticks follow an adaptive backoff that is
+ * reset whenever progress is observed. Queries run on the reserved background context
+ * pool (iiq.context.pool.backgroundSize), not the main pool its waiters may be holding.
+ *
+ * With 500 concurrent cases this is one query per tick instead of 500.
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkflowStatusPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowStatusPoller.class);
+
+    // A case missing from this many consecutive ticks is reported as not found
+    private static final int MAX_MISSES = 2;
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Value("${workflow.poll.initialDelayMillis:5}")
+    private long initialDelayMillis;
+
+    @Value("${workflow.poll.maxDelayMillis:1000}")
+    private long maxDelayMillis;
+
+    @Value("${workflow.poll.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${workflow.poll.batchSize:500}")
+    private int batchSize;
+
+    private final Map<String, Registration> outstanding = new ConcurrentHashMap<>();
+    private final Object signal = new Object();
+    private Thread pollerThread;
+    private volatile boolean running = false;
+    private volatile boolean progress = false;
+
+    // Statistics
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder tickErrors = new LongAdder();
+
+    /**
+     * Register a workflow case and get a future that completes once the case has a completion status.
+     * If the case disappears, the future completes with a status whose isFound() is false.
+     *
+     * Every caller gets its own future. Cancel it (or let orTimeout() fail it) to stop waiting;
+     * other callers waiting on the same case are unaffected, and the case is only dropped from
+     * polling once no caller is waiting for it.
+     *
+     * @param workflowCaseIdOrName ID or name of the workflow case
+     */
+    public CompletableFuture<CaseStatus> register(String workflowCaseIdOrName) {
+        // Callers waiting on the same case share one registration; finished ones are replaced
+        Registration registration = outstanding.compute(workflowCaseIdOrName, (key, existing) -> {
+            Registration current = existing != null && !existing.future.isDone() ? existing : new Registration();
+            current.waiters++;
+            return current;
+        });
+
+        CompletableFuture<CaseStatus> waiter = registration.future.thenApply(status -> status);
+        waiter.whenComplete((status, error) -> {
+            if (error != null) {
+                release(workflowCaseIdOrName, registration);
+            }
+        });
+
+        ensureStarted();
+        synchronized (signal) {
+            progress = true; // New work: poll soon
+            signal.notifyAll();
+        }
+        return waiter;
+    }
+
+    /**
+     * Number of cases currently being polled
+     */
+    public int getOutstandingCount() {
+        return outstanding.size();
+    }
+
+    /**
+     * Get poller statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("outstanding", outstanding.size());
+        stats.put("ticks", ticks.sum());
+        stats.put("queries", queries.sum());
+        stats.put("completed", completed.sum());
+        stats.put("notFound", notFound.sum());
+        stats.put("tickErrors", tickErrors.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (pollerThread != null) {
+            pollerThread.interrupt();
+        }
+        for (Registration registration : outstanding.values()) {
+            registration.future.cancel(false);
+        }
+        outstanding.clear();
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * A caller stopped waiting (cancelled, timed out or failed); drop the case once nobody waits for it
+     */
+    private void release(String key, Registration registration) {
+        outstanding.computeIfPresent(key, (k, current) -> {
+            if (current != registration || --current.waiters > 0) {
+                return current;
+            }
+            current.future.cancel(false);
+            return null;
+        });
+    }
+
+    private synchronized void ensureStarted() {
+        if (running) {
+            return;
+        }
+        running = true;
+        pollerThread = new Thread(this::pollLoop, "iiq-workflow-poller");
+        pollerThread.setDaemon(true);
+        pollerThread.start();
+        logger.debug("Workflow status poller started");
+    }
+
+    private void pollLoop() {
+        AdaptiveBackoff backoff = new AdaptiveBackoff(initialDelayMillis, maxDelayMillis, multiplier);
+        while (running) {
+            try {
+                synchronized (signal) {
+                    while (running && outstanding.isEmpty()) {
+                        signal.wait();
+                    }
+                    if (progress) {
+                        progress = false;
+                        backoff.reset();
+                    }
+                }
+                if (!running) {
+                    break;
+                }
+
+                tick();
+
+                synchronized (signal) {
+                    if (!progress) {
+                        signal.wait(backoff.nextDelayMillis());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // Keep polling through transient failures (e.g. circuit breaker open)
+                tickErrors.increment();
+                logger.warn("⚠ Workflow status poll failed: {}", e.getMessage());
+                sleepQuietly(maxDelayMillis);
+            }
+        }
+        logger.debug("Workflow status poller stopped");
+    }
+
+    private void tick() {
+        // Drop registrations whose callers gave up (cancelled or timed out)
+        outstanding.values().removeIf(registration -> registration.future.isDone());
+        List<String> keys = new ArrayList<>(outstanding.keySet());
+        if (keys.isEmpty()) {
+            return;
+        }
+        ticks.increment();
+
+        Map<String, ProjectionRow> rows;
+        try {
+            rows = remoteContext.withBackgroundContext(ctx -> fetchStatuses(ctx, keys));
+        } catch (GeneralException e) {
+            tickErrors.increment();
+            logger.warn("⚠ Workflow status poll failed: {}", e.getMessage());
+            return;
+        }
+
+        for (String key : keys) {
+            Registration registration = outstanding.get(key);
+            if (registration == null) {
+                continue;
+            }
+
+            ProjectionRow row = rows.get(key);
+            if (row == null) {
+                if (++registration.misses >= MAX_MISSES) {
+                    outstanding.remove(key, registration);
+                    notFound.increment();
+                    progress = true;
+                    registration.future.complete(new CaseStatus(key, null, null, false));
+                }
+                continue;
+            }
+
+            registration.misses = 0;
+            TaskResult.CompletionStatus status = row.getEnum("completionStatus", TaskResult.CompletionStatus.class);
+            if (status != null) {
+                outstanding.remove(key, registration);
+                completed.increment();
+                progress = true;
+                registration.future.complete(new CaseStatus(row.getString("id"), row.getString("name"), status, true));
+            }
+        }
+    }
+
+    /**
+     * Fetch the status of every key on the given context, matching keys against both id and name
+     *
+     * @return Rows keyed by the registered key
+     */
+    private Map<String, ProjectionRow> fetchStatuses(SailPointContext context, List<String> keys) throws GeneralException {
+        Map<String, ProjectionRow> byKey = new ConcurrentHashMap<>();
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < keys.size(); from += size) {
+            List<String> chunk = new ArrayList<>(keys.subList(from, Math.min(from + size, keys.size())));
+
+            QueryOptions qo = new QueryOptions();
+            qo.addFilter(Filter.or(Filter.in("id", chunk), Filter.in("name", chunk)));
+            queries.increment();
+
+            for (ProjectionRow row : remoteContext.project(context, WorkflowCase.class, qo, "id", "name", "completionStatus")) {
+                String id = row.getString("id");
+                String name = row.getString("name");
+                if (id != null && outstanding.containsKey(id)) {
+                    byKey.put(id, row);
+                }
+                if (name != null && outstanding.containsKey(name)) {
+                    byKey.put(name, row);
+                }
+            }
+        }
+        return byKey;
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static final class Registration {
+        private final CompletableFuture<CaseStatus> future = new CompletableFuture<>();
+        private int misses;
+        // Callers still waiting; only changed inside outstanding.compute*() for this key
+        private int waiters;
+    }
+
+    /**
+     * Final status of a polled workflow case
+     */
+    public static final class CaseStatus {
+        private final String id;
+        private final String name;
+        private final TaskResult.CompletionStatus completionStatus;
+        private final boolean found;
+
+        CaseStatus(String id, String name, TaskResult.CompletionStatus completionStatus, boolean found) {
+            this.id = id;
+            this.name = name;
+            this.completionStatus = completionStatus;
+            this.found = found;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public TaskResult.CompletionStatus getCompletionStatus() {
+            return completionStatus;
+        }
+
+        /**
+         * False if the case no longer exists (e.g. it was deleted)
+         */
+        public boolean isFound() {
+            return found;
+        }
+
+        @Override
+        public String toString() {
+            return found
+                ? String.format("CaseStatus[%s (%s): %s]", name, id, completionStatus)
+                : String.format("CaseStatus[%s: not found]", id);
+        }
+    }
+}
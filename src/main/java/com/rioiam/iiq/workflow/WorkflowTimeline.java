@@ -0,0 +1,253 @@
+package com.rioiam.iiq.workflow;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Execution timeline of one workflow case.
+ *
+ * Events are spans (start + duration) or instants, each on a track:
+ * client-side calls, workflow steps, approvals and work item creation.
+ * The timeline can be exported as Chrome trace-event JSON and opened in
+ * chrome://tracing or https://ui.perfetto.dev.
+ *
+ * @author RIOIAM Framework
+ */
+public class WorkflowTimeline {
+
+    public enum Track {
+        CLIENT("Client"),
+        STEP("Workflow steps"),
+        APPROVAL("Approvals"),
+        WORK_ITEM("Work items");
+
+        private final String label;
+
+        Track(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String caseName;
+    private final List<Event> events = new ArrayList<>();
+
+    public WorkflowTimeline(String caseName) {
+        this.caseName = caseName;
+    }
+
+    public String getCaseName() {
+        return caseName;
+    }
+
+    /**
+     * Add a span
+     *
+     * @param startMillis Start time (epoch millis)
+     * @param durationMillis Duration in milliseconds
+     */
+    public synchronized Event addSpan(Track track, String name, long startMillis, long durationMillis) {
+        Event event = new Event(track, name, startMillis, Math.max(0, durationMillis), false);
+        events.add(event);
+        return event;
+    }
+
+    /**
+     * Add a point-in-time event (e.g. a work item being created)
+     */
+    public synchronized Event addInstant(Track track, String name, long timeMillis) {
+        Event event = new Event(track, name, timeMillis, 0, true);
+        events.add(event);
+        return event;
+    }
+
+    /**
+     * All events ordered by start time
+     */
+    public synchronized List<Event> getEvents() {
+        List<Event> sorted = new ArrayList<>(events);
+        sorted.sort(Comparator.comparingLong(Event::getStartMillis));
+        return sorted;
+    }
+
+    /**
+     * Spans on one track ordered by duration, longest first
+     */
+    public List<Event> getSlowest(Track track, int limit) {
+        List<Event> spans = new ArrayList<>();
+        for (Event event : getEvents()) {
+            if (event.getTrack() == track && !event.isInstant()) {
+                spans.add(event);
+            }
+        }
+        spans.sort(Comparator.comparingLong(Event::getDurationMillis).reversed());
+        return spans.subList(0, Math.min(limit, spans.size()));
+    }
+
+    /**
+     * Wall-clock time from the first event start to the last event end
+     */
+    public synchronized long getDurationMillis() {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        for (Event event : events) {
+            start = Math.min(start, event.getStartMillis());
+            end = Math.max(end, event.getEndMillis());
+        }
+        return end - start;
+    }
+
+    /**
+     * Export as Chrome trace-event JSON (JSON object format)
+     */
+    public String toChromeTraceJson() {
+        try {
+            return MAPPER.writeValueAsString(toChromeTrace());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize workflow timeline", e);
+        }
+    }
+
+    /**
+     * Write Chrome trace-event JSON to a file
+     */
+    public void writeChromeTrace(File file) throws IOException {
+        MAPPER.writeValue(file, toChromeTrace());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WorkflowTimeline[%s, events=%d, duration=%dms]", caseName, events.size(), getDurationMillis());
+    }
+
+    // ===== Helper Methods =====
+
+    private Map<String, Object> toChromeTrace() {
+        List<Map<String, Object>> traceEvents = new ArrayList<>();
+
+        Map<String, Object> process = new LinkedHashMap<>();
+        process.put("name", "process_name");
+        process.put("ph", "M");
+        process.put("pid", 1);
+        process.put("args", Collections.singletonMap("name", caseName));
+        traceEvents.add(process);
+
+        for (Track track : Track.values()) {
+            Map<String, Object> thread = new LinkedHashMap<>();
+            thread.put("name", "thread_name");
+            thread.put("ph", "M");
+            thread.put("pid", 1);
+            thread.put("tid", track.ordinal() + 1);
+            thread.put("args", Collections.singletonMap("name", track.getLabel()));
+            traceEvents.add(thread);
+        }
+
+        for (Event event : getEvents()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", event.getName());
+            entry.put("cat", event.getTrack().name().toLowerCase());
+            entry.put("pid", 1);
+            entry.put("tid", event.getTrack().ordinal() + 1);
+            entry.put("ts", event.getStartMillis() * 1000); // microseconds
+            if (event.isInstant()) {
+                entry.put("ph", "i");
+                entry.put("s", "t");
+            } else {
+                entry.put("ph", "X");
+                entry.put("dur", event.getDurationMillis() * 1000);
+            }
+            if (!event.getArgs().isEmpty()) {
+                entry.put("args", event.getArgs());
+            }
+            traceEvents.add(entry);
+        }
+
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", traceEvents);
+        trace.put("displayTimeUnit", "ms");
+        return trace;
+    }
+
+    /**
+     * A span or instant on the timeline
+     */
+    public static final class Event {
+        private final Track track;
+        private final String name;
+        private final long startMillis;
+        private final long durationMillis;
+        private final boolean instant;
+        private final Map<String, Object> args = new LinkedHashMap<>();
+
+        Event(Track track, String name, long startMillis, long durationMillis, boolean instant) {
+            this.track = track;
+            this.name = name;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.instant = instant;
+        }
+
+        /**
+         * Attach a detail shown with the event (e.g. owner, status)
+         */
+        public Event with(String key, Object value) {
+            if (value != null) {
+                args.put(key, value);
+            }
+            return this;
+        }
+
+        public Track getTrack() {
+            return track;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getStartMillis() {
+            return startMillis;
+        }
+
+        public long getEndMillis() {
+            return startMillis + durationMillis;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public boolean isInstant() {
+            return instant;
+        }
+
+        public Map<String, Object> getArgs() {
+            return args;
+        }
+
+        @Override
+        public String toString() {
+            return instant
+                ? String.format("%s[%s @ %d]", track, name, startMillis)
+                : String.format("%s[%s: %dms]", track, name, durationMillis);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
+import com.rioiam.iiq.workflow.WorkflowTimeline.Track;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sailpoint.object.Filter;
+import sailpoint.object.ProcessLog;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.WorkItem;
+import sailpoint.object.WorkflowCase;
+import sailpoint.tools.GeneralException;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds per-step execution timelines for workflow cases.
+ *
+ * A timeline combines:
+ * - Client spans recorded by WorkflowExecutor for traced launches (launch, wait)
+ * - The case itself (created to completed)
+ * - ProcessLog rows: start/end of each monitored step, including rule and script
+ *   steps, and of each approval
+ * - Creation times of the case's work items
+ *
+ * ProcessLog rows are only written for monitored steps. Traced launches
+ * (WorkflowExecutor.launchWorkflow(..., true)) monitor every step; for other cases it
+ * depends on the workflow definition, and without them the timeline still shows client
+ * spans and work items.
+ *
+ * Client spans are dropped once a timeline has been built for the completed case, on
+ * release(), or after workflow.trace.retentionMinutes, whichever comes first.
+ *
+ * Usage:
+ * <pre>
+ * String caseName = workflowExecutor.launchWorkflow(name, launcher, vars, true);
+ * workflowExecutor.waitForCompletion(caseName, 300);
+ * WorkflowTimeline timeline = workflowTracer.buildTimeline(caseName);
+ * timeline.writeChromeTrace(new File("target/activation-trace.json"));
+ * </pre>
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkflowTracer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowTracer.class);
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Value("${workflow.trace.retentionMinutes:60}")
+    private long retentionMinutes;
+
+    // Client-side spans of traced cases, keyed by case name
+    private final Map<String, ClientTrace> clientSpans = new ConcurrentHashMap<>();
+
+    /**
+     * Start collecting client spans for a case
+     */
+    public void begin(String caseName) {
+        evictExpired();
+        clientSpans.putIfAbsent(caseName, new ClientTrace(caseName));
+    }
+
+    /**
+     * True if client spans are being collected for the case
+     */
+    public boolean isTraced(String caseName) {
+        return caseName != null && clientSpans.containsKey(caseName);
+    }
+
+    /**
+     * Record a client-side span for a traced case (ignored for untraced cases)
+     *
+     * @param startMillis Start time (epoch millis)
+     */
+    public void recordSpan(String caseName, String name, long startMillis, long durationMillis) {
+        ClientTrace trace = caseName != null ? clientSpans.get(caseName) : null;
+        if (trace != null) {
+            trace.timeline.addSpan(Track.CLIENT, name, startMillis, durationMillis);
+        }
+    }
+
+    /**
+     * Stop collecting client spans for a case and drop those recorded so far
+     */
+    public void release(String caseName) {
+        clientSpans.remove(caseName);
+    }
+
+    /**
+     * Build the execution timeline of a workflow case.
+     *
+     * @param workflowCaseIdOrName ID or name of the workflow case
+     * @return Timeline (possibly empty), or null if it could not be read
+     */
+    public WorkflowTimeline buildTimeline(String workflowCaseIdOrName) {
+        logger.debug("Building timeline for workflow case: {}", workflowCaseIdOrName);
+
+        try {
+            ProjectionRow caseRow = remoteContext.projectOne(WorkflowCase.class,
+                Filter.or(Filter.eq("id", workflowCaseIdOrName), Filter.eq("name", workflowCaseIdOrName)),
+                "id", "name", "created", "completed", "completionStatus");
+
+            String caseId = caseRow != null ? caseRow.getString("id") : null;
+            String caseName = caseRow != null ? caseRow.getString("name") : workflowCaseIdOrName;
+            WorkflowTimeline timeline = new WorkflowTimeline(caseName);
+
+            ClientTrace client = clientSpans.get(caseName);
+            if (client != null) {
+                for (WorkflowTimeline.Event event : client.timeline.getEvents()) {
+                    timeline.addSpan(event.getTrack(), event.getName(), event.getStartMillis(), event.getDurationMillis());
+                }
+            }
+
+            if (caseRow != null) {
+                addSpan(timeline, Track.STEP, "Workflow case", caseRow.getDate("created"), caseRow.getDate("completed"))
+                    .with("completionStatus", caseRow.getString("completionStatus"));
+            }
+
+            addProcessLogs(timeline, caseId, caseName);
+            addWorkItems(timeline, caseId, caseName);
+
+            // The spans now live in the returned timeline; nothing more is recorded once the case is done
+            if (client != null && caseRow != null && caseRow.getDate("completed") != null) {
+                clientSpans.remove(caseName);
+            }
+
+            logger.info("✓ {}", timeline);
+            return timeline;
+
+        } catch (GeneralException e) {
+            logger.error("✗ Error building timeline for workflow case: {}", workflowCaseIdOrName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Number of cases whose client spans are currently held
+     */
+    public int getTracedCount() {
+        return clientSpans.size();
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * Drop client spans of cases traced longer ago than the retention period
+     * (callers that never built a timeline or called release())
+     */
+    private void evictExpired() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(retentionMinutes);
+        clientSpans.values().removeIf(trace -> trace.startedAt < cutoff);
+    }
+
+    private void addProcessLogs(WorkflowTimeline timeline, String caseId, String caseName) throws GeneralException {
+        QueryOptions qo = new QueryOptions();
+        qo.addFilter(caseFilter("caseId", "workflowCaseName", caseId, caseName));
+        qo.addOrdering("startTime", true);
+
+        List<ProjectionRow> rows = remoteContext.project(ProcessLog.class, qo,
+            "stepName", "approvalName", "ownerName", "startTime", "endTime");
+        for (ProjectionRow row : rows) {
+            String approvalName = row.getString("approvalName");
+            boolean approval = approvalName != null && !approvalName.isEmpty();
+            addSpan(timeline, approval ? Track.APPROVAL : Track.STEP,
+                approval ? approvalName : row.getString("stepName"), row.getDate("startTime"), row.getDate("endTime"))
+                .with("step", row.getString("stepName"))
+                .with("owner", row.getString("ownerName"));
+        }
+        logger.debug("Timeline: {} process log rows", rows.size());
+    }
+
+    private void addWorkItems(WorkflowTimeline timeline, String caseId, String caseName) throws GeneralException {
+        QueryOptions qo = new QueryOptions();
+        qo.addFilter(caseFilter("workflowCase.id", "workflowCase.name", caseId, caseName));
+
+        List<ProjectionRow> rows = remoteContext.project(WorkItem.class, qo,
+            "id", "name", "type", "state", "owner.name", "created");
+        for (ProjectionRow row : rows) {
+            Date created = row.getDate("created");
+            if (created != null) {
+                timeline.addInstant(Track.WORK_ITEM, row.getString("name"), created.getTime())
+                    .with("id", row.getString("id"))
+                    .with("type", row.getString("type"))
+                    .with("state", row.getString("state"))
+                    .with("owner", row.getString("owner.name"));
+            }
+        }
+        logger.debug("Timeline: {} work items", rows.size());
+    }
+
+    private Filter caseFilter(String idProperty, String nameProperty, String caseId, String caseName) {
+        return caseId != null
+            ? Filter.or(Filter.eq(idProperty, caseId), Filter.eq(nameProperty, caseName))
+            : Filter.eq(nameProperty, caseName);
+    }
+
+    /**
+     * Add a span; an open span (no end yet) runs until now and is flagged as running
+     */
+    private WorkflowTimeline.Event addSpan(WorkflowTimeline timeline, Track track, String name, Date start, Date end) {
+        long startMillis = start != null ? start.getTime() : System.currentTimeMillis();
+        long endMillis = end != null ? end.getTime() : System.currentTimeMillis();
+        WorkflowTimeline.Event event = timeline.addSpan(track, name != null ? name : "(unnamed)", startMillis, endMillis - startMillis);
+        return end == null ? event.with("running", true) : event;
+    }
+
+    private static final class ClientTrace {
+        private final WorkflowTimeline timeline;
+        private final long startedAt = System.currentTimeMillis();
+
+        ClientTrace(String caseName) {
+            this.timeline = new WorkflowTimeline(caseName);
+        }
+    }
+}
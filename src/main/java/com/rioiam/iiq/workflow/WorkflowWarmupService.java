@@ -0,0 +1,361 @@
+package com.rioiam.iiq.workflow;
+
+import bsh.ParseException;
+import bsh.Parser;
+import com.rioiam.iiq.config.EnvironmentConfig;
+import com.rioiam.iiq.context.AsyncContextExecutor;
+import com.rioiam.iiq.context.IIQRemoteContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Form;
+import sailpoint.object.Rule;
+import sailpoint.object.Script;
+import sailpoint.object.Workflow;
+import sailpoint.tools.GeneralException;
+
+import javax.annotation.PostConstruct;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Primes Workflows, Rules and Forms so measured latency is not skewed by cold start.
+ *
+ * The first launch of a workflow in a JVM pays for resolving the definition and
+ * loading its rule libraries, referenced rules and forms. This service does that
+ * loading up front, in parallel on pooled contexts, for the objects configured per
+ * environment (warmup.workflows / warmup.rules / warmup.forms, see EnvironmentConfig):
+ * - Workflows are loaded with their rule libraries and referenced rules
+ * - Rules are loaded
+ * - Forms are fully loaded
+ *
+ * Step, variable, action and rule scripts are also syntax-checked locally, so a broken
+ * script fails the warmup instead of the first measured run. This check uses a
+ * standalone BeanShell parser: it does NOT fill IIQ's rule/script compile cache, so
+ * the first execution of each script still pays for compilation on the server.
+ *
+ * Each object is primed twice; the first (cold) and second (warm) pass timings are
+ * reported so the load cost is visible. Warmup is opt-in (warmup.enabled) and runs on
+ * the AsyncContextExecutor in the background at startup; use awaitWarmup() before
+ * timing-sensitive measurements.
+ *
+ * Nothing is executed, so warmup has no side effects.
+ *
+ * @author RIOIAM Framework
+ */
+@Component
+public class WorkflowWarmupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowWarmupService.class);
+
+    @Autowired
+    private EnvironmentConfig environmentConfig;
+
+    @Autowired
+    private IIQRemoteContext remoteContext;
+
+    @Autowired
+    private AsyncContextExecutor asyncExecutor;
+
+    private volatile CompletableFuture<WarmupReport> startupWarmup = CompletableFuture.completedFuture(null);
+
+    @PostConstruct
+    public void start() {
+        if (!environmentConfig.isWarmupEnabled()) {
+            logger.info("Warmup disabled for {}", environmentConfig.getEnvironmentDisplayName());
+            return;
+        }
+        startupWarmup = warmupAsync(
+            environmentConfig.getWarmupNames("workflows"),
+            environmentConfig.getWarmupNames("rules"),
+            environmentConfig.getWarmupNames("forms"));
+    }
+
+    /**
+     * Wait for the startup warmup to finish
+     *
+     * @return Report, or null if warmup is disabled
+     */
+    public WarmupReport awaitWarmup() {
+        return startupWarmup.join();
+    }
+
+    /**
+     * Prime the given objects now (cold pass, then warm pass)
+     *
+     * @return Cold and warm timings per object
+     */
+    public WarmupReport warmup(List<String> workflows, List<String> rules, List<String> forms) {
+        return warmupAsync(workflows, rules, forms).join();
+    }
+
+    /**
+     * Prime the given objects in the background (cold pass, then warm pass).
+     *
+     * Each object is primed by its own AsyncContextExecutor task; no thread blocks
+     * while holding a context waiting for the others.
+     *
+     * @return Future of the cold and warm timings per object
+     */
+    public CompletableFuture<WarmupReport> warmupAsync(List<String> workflows, List<String> rules, List<String> forms) {
+        logger.info("Warming up {} workflows, {} rules, {} forms", workflows.size(), rules.size(), forms.size());
+        long startTime = System.currentTimeMillis();
+
+        List<CompletableFuture<ObjectTiming>> futures = new ArrayList<>();
+        for (String name : workflows) {
+            futures.add(prime("Workflow", name, context -> primeWorkflow(context, name)));
+        }
+        for (String name : rules) {
+            futures.add(prime("Rule", name, context -> primeRule(context, name)));
+        }
+        for (String name : forms) {
+            futures.add(prime("Form", name, context -> primeForm(context, name)));
+        }
+
+        return AsyncContextExecutor.allOf(futures).thenApply(timings -> {
+            WarmupReport report = new WarmupReport(timings, System.currentTimeMillis() - startTime);
+            logger.info("✓ {}", report);
+            for (ObjectTiming timing : report.getTimings()) {
+                logger.debug("  {}", timing);
+            }
+            return report;
+        });
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * Prime one object twice on a pooled context, decaching in between
+     */
+    private CompletableFuture<ObjectTiming> prime(String type, String name, IIQRemoteContext.ContextOperation<Integer> primer) {
+        return asyncExecutor.supplyAsync(() -> {
+            ObjectTiming timing = new ObjectTiming(type, name);
+            try {
+                SailPointContext context = remoteContext.getContext();
+
+                long start = System.nanoTime();
+                timing.scriptsChecked = primer.execute(context);
+                timing.coldMillis = (System.nanoTime() - start) / 1_000_000;
+                context.decache();
+
+                start = System.nanoTime();
+                primer.execute(context);
+                timing.warmMillis = (System.nanoTime() - start) / 1_000_000;
+                context.decache();
+
+            } catch (GeneralException | RuntimeException e) {
+                timing.error = e.getMessage();
+                logger.warn("⚠ Warmup of {} '{}' failed: {}", type, name, e.getMessage());
+            }
+            return timing;
+        });
+    }
+
+    /**
+     * Load a workflow with its rule libraries and referenced rules, syntax-checking all of its BeanShell
+     *
+     * @return Number of scripts checked
+     */
+    private int primeWorkflow(SailPointContext context, String name) throws GeneralException {
+        Workflow workflow = context.getObjectByName(Workflow.class, name);
+        if (workflow == null) {
+            throw new GeneralException("Workflow not found: " + name);
+        }
+        workflow.load();
+
+        int checked = 0;
+        if (workflow.getRuleLibraries() != null) {
+            for (Rule library : workflow.getRuleLibraries()) {
+                checked += checkSyntax(library.getName(), library.getSource());
+            }
+        }
+        if (workflow.getVariableDefinitions() != null) {
+            for (Workflow.Variable variable : workflow.getVariableDefinitions()) {
+                checked += checkSyntax(name + "." + variable.getName(), source(variable.getScript()));
+            }
+        }
+
+        Set<String> referencedRules = new LinkedHashSet<>();
+        if (workflow.getSteps() != null) {
+            for (Workflow.Step step : workflow.getSteps()) {
+                checked += checkSyntax(name + "." + step.getName(), source(step.getScript()));
+                String action = step.getAction();
+                if (action != null && action.startsWith("script:")) {
+                    checked += checkSyntax(name + "." + step.getName(), action.substring("script:".length()));
+                } else if (action != null && action.startsWith("rule:")) {
+                    referencedRules.add(action.substring("rule:".length()).trim());
+                }
+            }
+        }
+        for (String ruleName : referencedRules) {
+            checked += primeRule(context, ruleName);
+        }
+        return checked;
+    }
+
+    private int primeRule(SailPointContext context, String name) throws GeneralException {
+        Rule rule = context.getObjectByName(Rule.class, name);
+        if (rule == null) {
+            throw new GeneralException("Rule not found: " + name);
+        }
+        rule.load();
+        return checkSyntax(name, rule.getSource());
+    }
+
+    private int primeForm(SailPointContext context, String name) throws GeneralException {
+        Form form = context.getObjectByName(Form.class, name);
+        if (form == null) {
+            throw new GeneralException("Form not found: " + name);
+        }
+        form.load();
+        return 0;
+    }
+
+    private String source(Script script) {
+        return script != null ? script.getSource() : null;
+    }
+
+    /**
+     * Syntax-check BeanShell source locally without evaluating it.
+     * Does not touch IIQ's compile cache.
+     *
+     * @return 1 if checked, 0 if there was nothing to check
+     */
+    private int checkSyntax(String label, String source) throws GeneralException {
+        if (source == null || source.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            Parser parser = new Parser(new StringReader(source));
+            while (!parser.Line()) {
+                parser.popNode();
+            }
+            return 1;
+        } catch (ParseException e) {
+            throw new GeneralException("BeanShell parse error in " + label + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Cold and warm priming time of one object
+     */
+    public static final class ObjectTiming {
+        private final String type;
+        private final String name;
+        private long coldMillis = -1;
+        private long warmMillis = -1;
+        private int scriptsChecked;
+        private String error;
+
+        ObjectTiming(String type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getColdMillis() {
+            return coldMillis;
+        }
+
+        public long getWarmMillis() {
+            return warmMillis;
+        }
+
+        /**
+         * Scripts syntax-checked locally (not compiled by IIQ)
+         */
+        public int getScriptsChecked() {
+            return scriptsChecked;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess()
+                ? String.format("%s '%s': cold=%dms, warm=%dms, scriptsChecked=%d", type, name, coldMillis, warmMillis, scriptsChecked)
+                : String.format("%s '%s': FAILED - %s", type, name, error);
+        }
+    }
+
+    /**
+     * Outcome of a warmup run
+     */
+    public static final class WarmupReport {
+        private final List<ObjectTiming> timings;
+        private final long durationMillis;
+
+        WarmupReport(List<ObjectTiming> timings, long durationMillis) {
+            this.timings = Collections.unmodifiableList(timings);
+            this.durationMillis = durationMillis;
+        }
+
+        public List<ObjectTiming> getTimings() {
+            return timings;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        /**
+         * Sum of cold pass times of the objects primed successfully
+         */
+        public long getColdMillis() {
+            return timings.stream().filter(ObjectTiming::isSuccess).mapToLong(ObjectTiming::getColdMillis).sum();
+        }
+
+        /**
+         * Sum of warm pass times of the objects primed successfully
+         */
+        public long getWarmMillis() {
+            return timings.stream().filter(ObjectTiming::isSuccess).mapToLong(ObjectTiming::getWarmMillis).sum();
+        }
+
+        public int getFailureCount() {
+            return (int) timings.stream().filter(timing -> !timing.isSuccess()).count();
+        }
+
+        /**
+         * Summary suitable for statistics output
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("objects", timings.size());
+            summary.put("failed", getFailureCount());
+            summary.put("coldMs", getColdMillis());
+            summary.put("warmMs", getWarmMillis());
+            summary.put("coldStartPenaltyMs", getColdMillis() - getWarmMillis());
+            summary.put("durationMs", durationMillis);
+            return summary;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("WarmupReport[objects=%d, failed=%d, cold=%dms, warm=%dms, duration=%dms]",
+                timings.size(), getFailureCount(), getColdMillis(), getWarmMillis(), durationMillis);
+        }
+    }
+}
@@ -27,11 +27,23 @@ import sailpoint.api.SailPointContext;
 @ContextConfiguration(classes = {
     IIQRemoteContext.class,
     EnvironmentConfig.class,
+    com.rioiam.iiq.context.AsyncContextExecutor.class,
+    com.rioiam.iiq.context.ContextHealthMonitor.class,
     IIQTaskExecutor.class,
     com.rioiam.iiq.identity.IdentityService.class,
     com.rioiam.iiq.identity.IdentityValidator.class,
     com.rioiam.iiq.workflow.WorkflowExecutor.class,
+    com.rioiam.iiq.workflow.WorkflowStatusPoller.class,
+    com.rioiam.iiq.workflow.WorkflowLaunchEngine.class,
+    com.rioiam.iiq.workflow.WorkflowTracer.class,
+    com.rioiam.iiq.workflow.RequestCompletionTracker.class,
+    com.rioiam.iiq.workflow.WorkflowCleanupService.class,
+    com.rioiam.iiq.workflow.WorkflowWarmupService.class,
+    com.rioiam.iiq.workflow.WorkflowRecorder.class,
+    com.rioiam.iiq.workflow.WorkflowReplayer.class,
+    com.rioiam.iiq.workflow.WorkItemDispatcher.class,
     com.rioiam.iiq.workflow.WorkItemHandler.class,
+    com.rioiam.iiq.workflow.ApprovalPolicyEngine.class,
     com.rioiam.iiq.workflow.ServerSideWorkflowLauncher.class
     // Additional components will be added here as modules are created
 })
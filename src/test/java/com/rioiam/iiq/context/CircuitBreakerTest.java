@@ -0,0 +1,122 @@
+package com.rioiam.iiq.context;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for the backend circuit breaker.
+ * Pure state machine logic; runs without an IIQ server.
+ *
+ * Tests:
+ * - The circuit opens at the failure threshold and rejects requests
+ * - Exactly one trial request passes in HALF_OPEN
+ * - A stale trial is replaced after openMillis
+ * - recordSuccess closes the circuit; a failed trial opens it again
+ */
+public class CircuitBreakerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerTest.class);
+
+    private static final long OPEN_MILLIS = 50;
+
+    @Test
+    public void testOpensAtFailureThreshold() {
+        logger.info("========================================");
+        logger.info("TEST: Circuit Breaker - Opens at Failure Threshold");
+        logger.info("========================================");
+
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_MILLIS);
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals("Circuit should stay closed below the threshold", CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals("A success should reset the failure count", CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.recordFailure();
+        assertEquals("Third consecutive failure should open the circuit", CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse("Open circuit should reject requests", breaker.allowRequest());
+        assertEquals(1L, breaker.getStatistics().get("trips"));
+        assertEquals(1L, breaker.getStatistics().get("rejected"));
+        logger.info("✓ Test passed: {}", breaker.getStatistics());
+    }
+
+    @Test
+    public void testHalfOpenAllowsExactlyOneTrial() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Circuit Breaker - Half-Open Allows Exactly One Trial");
+        logger.info("========================================");
+
+        CircuitBreaker breaker = openBreaker();
+        Thread.sleep(OPEN_MILLIS + 10);
+
+        assertTrue("First request after openMillis should be the trial", breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse("Second request should be rejected while the trial is in flight", breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+
+        breaker.recordFailure();
+        assertEquals("Failed trial should open the circuit again", CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse("Re-opened circuit should reject requests", breaker.allowRequest());
+        logger.info("✓ Test passed: {}", breaker.getStatistics());
+    }
+
+    @Test
+    public void testStaleTrialIsReplaced() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Circuit Breaker - Stale Trial Is Replaced");
+        logger.info("========================================");
+
+        CircuitBreaker breaker = openBreaker();
+        Thread.sleep(OPEN_MILLIS + 10);
+        assertTrue("Trial should be allowed", breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+
+        // The trial never records its outcome
+        Thread.sleep(OPEN_MILLIS + 10);
+        assertTrue("A new trial should replace the stale one", breaker.allowRequest());
+        assertFalse("Only the replacement trial should pass", breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        logger.info("✓ Test passed: {}", breaker.getStatistics());
+    }
+
+    @Test
+    public void testRecordSuccessClosesCircuit() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Circuit Breaker - Record Success Closes Circuit");
+        logger.info("========================================");
+
+        CircuitBreaker breaker = openBreaker();
+        Thread.sleep(OPEN_MILLIS + 10);
+        assertTrue(breaker.allowRequest());
+
+        breaker.recordSuccess();
+        assertEquals("Successful trial should close the circuit", CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getConsecutiveFailures());
+        assertTrue("Closed circuit should allow every request", breaker.allowRequest());
+        assertTrue(breaker.allowRequest());
+
+        // A forced trip is closed by the next success as well
+        breaker.trip();
+        assertTrue(breaker.isOpen());
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        logger.info("✓ Test passed: {}", breaker.getStatistics());
+    }
+
+    // ===== Helper Methods =====
+
+    private CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, OPEN_MILLIS);
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
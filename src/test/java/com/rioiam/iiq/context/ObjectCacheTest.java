@@ -0,0 +1,185 @@
+package com.rioiam.iiq.context;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sailpoint.object.Bundle;
+import sailpoint.object.Identity;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for the bounded SailPoint object cache.
+ * Runs without an IIQ server: cached objects are built in memory.
+ *
+ * Tests:
+ * - A full cache evicts the least frequently used entry, then the least recently accessed one
+ * - Entries older than the TTL are treated as misses
+ * - invalidate() and invalidateAll() remove entries
+ * - Hit, miss, eviction, expiration and invalidation counters
+ */
+public class ObjectCacheTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ObjectCacheTest.class);
+
+    @Test
+    public void testEviction_LeastFrequentlyUsedFirst() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Eviction - Least Frequently Used First");
+        logger.info("========================================");
+
+        ObjectCache cache = new ObjectCache(10, 0);
+        fill(cache, 10);
+
+        // Every entry except user3 is read once more
+        for (int i = 0; i < 10; i++) {
+            if (i != 3) {
+                assertNotNull(cache.get(Identity.class, "user" + i));
+            }
+        }
+
+        put(cache, "user10");
+        assertEquals("Cache should stay at its size limit", 10, cache.size());
+        assertNull("Least frequently used entry should be evicted", cache.get(Identity.class, "user3"));
+        assertNotNull("New entry should be kept", cache.get(Identity.class, "user10"));
+        assertNotNull(cache.get(Identity.class, "user0"));
+        logger.info("✓ Test passed: {}", cache.getStatistics());
+    }
+
+    @Test
+    public void testEviction_LeastRecentlyAccessedOnTie() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Eviction - Least Recently Accessed on Tie");
+        logger.info("========================================");
+
+        ObjectCache cache = new ObjectCache(10, 0);
+        fill(cache, 10);
+
+        put(cache, "user10");
+        assertEquals(10, cache.size());
+        assertNull("Oldest entry should be evicted when frequencies tie", cache.get(Identity.class, "user0"));
+        for (int i = 1; i <= 10; i++) {
+            assertNotNull("user" + i + " should be kept", cache.get(Identity.class, "user" + i));
+        }
+
+        // A sweep evicts at least 10% of a larger cache
+        ObjectCache large = new ObjectCache(50, 0);
+        fill(large, 51);
+        assertEquals("Sweep should evict 10% of maxSize", 46, large.size());
+        assertNull(large.get(Identity.class, "user0"));
+        assertNull(large.get(Identity.class, "user4"));
+        assertNotNull(large.get(Identity.class, "user5"));
+        logger.info("✓ Test passed: {}", large.getStatistics());
+    }
+
+    @Test
+    public void testTtl_ExpiredEntriesAreMisses() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: TTL - Expired Entries Are Misses");
+        logger.info("========================================");
+
+        ObjectCache cache = new ObjectCache(10, 1);
+        put(cache, "john.doe");
+        assertNotNull("Fresh entry should be a hit", cache.get(Identity.class, "john.doe"));
+
+        Thread.sleep(1100);
+        assertNull("Expired entry should be a miss", cache.get(Identity.class, "john.doe"));
+        assertEquals("Expired entry should be removed", 0, cache.size());
+
+        Map<String, Object> stats = cache.getStatistics();
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+        assertEquals(1L, stats.get("expirations"));
+        logger.info("✓ Test passed: {}", stats);
+    }
+
+    @Test
+    public void testInvalidate() {
+        logger.info("========================================");
+        logger.info("TEST: Invalidate");
+        logger.info("========================================");
+
+        ObjectCache cache = new ObjectCache(10, 0);
+        Identity john = put(cache, "john.doe");
+        put(cache, "jane.doe");
+        put(cache, "bob.smith");
+        Bundle role = new Bundle();
+        role.setName("Employee");
+        cache.put(Bundle.class, "Employee", role);
+
+        cache.invalidate(john);
+        assertNull("Saved object should be invalidated", cache.get(Identity.class, "john.doe"));
+
+        cache.invalidate(Identity.class, "jane.doe");
+        assertNull(cache.get(Identity.class, "jane.doe"));
+        cache.invalidate(Identity.class, "not.cached");
+
+        put(cache, "alice.jones");
+        cache.invalidateAll(Identity.class);
+        assertEquals("All identities should be removed", 0, cache.size(Identity.class));
+        assertSame("Other classes should be kept", role, cache.get(Bundle.class, "Employee"));
+
+        assertEquals("Only removed entries should be counted", 4L, cache.getStatistics().get("invalidations"));
+        logger.info("✓ Test passed: {}", cache.getStatistics());
+    }
+
+    @Test
+    public void testStatistics_Counters() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Statistics - Counters");
+        logger.info("========================================");
+
+        ObjectCache cache = new ObjectCache(2, 0);
+        AtomicInteger loads = new AtomicInteger();
+        Identity john = identity("john.doe");
+
+        assertSame(john, cache.getOrLoad(Identity.class, "john.doe", () -> {
+            loads.incrementAndGet();
+            return john;
+        }));
+        assertSame("Second read should come from the cache", john, cache.getOrLoad(Identity.class, "john.doe", () -> {
+            loads.incrementAndGet();
+            return john;
+        }));
+        assertNull("Null results should not be cached", cache.getOrLoad(Identity.class, "ghost", () -> null));
+        assertEquals("Loader should run once for the cached object", 1, loads.get());
+
+        put(cache, "jane.doe");
+        put(cache, "bob.smith");
+
+        Map<String, Object> stats = cache.getStatistics();
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(2L, stats.get("misses"));
+        assertEquals(0.333, stats.get("hitRate"));
+        assertEquals("Third entry should evict one", 1L, stats.get("evictions"));
+        assertEquals(2, stats.get("size"));
+        logger.info("✓ Test passed: {}", stats);
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * Put user0..user(count-1), spaced apart so access times are distinct
+     */
+    private void fill(ObjectCache cache, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            put(cache, "user" + i);
+            Thread.sleep(1);
+        }
+    }
+
+    private Identity put(ObjectCache cache, String name) {
+        Identity identity = identity(name);
+        cache.put(Identity.class, name, identity);
+        return identity;
+    }
+
+    private Identity identity(String name) {
+        Identity identity = new Identity();
+        identity.setName(name);
+        return identity;
+    }
+}
@@ -0,0 +1,89 @@
+package com.rioiam.iiq.context;
+
+import com.rioiam.iiq.base.BaseIIQTest;
+import com.rioiam.iiq.context.SailPointContextPool.ContextLease;
+import org.junit.Test;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Identity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the per-thread SailPointContext pool.
+ *
+ * Tests:
+ * - Leased context is returned by getContext() on the leasing thread
+ * - Nested leases on one thread reuse the same context
+ * - Concurrent threads receive distinct contexts
+ */
+public class SailPointContextPoolTest extends BaseIIQTest {
+
+    @Test
+    public void testLease_BoundToCallingThread() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Lease - Bound To Calling Thread");
+        logger.info("========================================");
+
+        SailPointContext primary = remoteContext.getContext();
+
+        try (ContextLease lease = remoteContext.leaseContext()) {
+            assertNotNull("Lease should provide a context", lease.getContext());
+            assertNotSame("Leased context should not be the primary context", primary, lease.getContext());
+            assertSame("getContext() should return the leased context", lease.getContext(), remoteContext.getContext());
+
+            // Nested lease reuses the same context
+            try (ContextLease nested = remoteContext.leaseContext()) {
+                assertSame("Nested lease should reuse the context", lease.getContext(), nested.getContext());
+            }
+            assertSame("Outer lease should still be active", lease.getContext(), remoteContext.getContext());
+        }
+
+        assertSame("Primary context should be restored after lease", primary, remoteContext.getContext());
+        logger.info("✓ Test passed: Lease bound to calling thread");
+    }
+
+    @Test
+    public void testLease_ConcurrentThreadsGetDistinctContexts() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Lease - Concurrent Threads");
+        logger.info("========================================");
+
+        int threads = Math.min(4, remoteContext.getContextPool().getMaxSize());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch allLeased = new CountDownLatch(threads);
+        Set<SailPointContext> seen = ConcurrentHashMap.newKeySet();
+
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    try (ContextLease lease = remoteContext.leaseContext()) {
+                        seen.add(lease.getContext());
+                        allLeased.countDown();
+                        allLeased.await(30, TimeUnit.SECONDS);
+                        return remoteContext.getContext().countObjects(Identity.class, null);
+                    }
+                }));
+            }
+
+            for (Future<Integer> future : futures) {
+                assertTrue("Each thread should be able to query", future.get(60, TimeUnit.SECONDS) >= 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("Each thread should receive its own context", threads, seen.size());
+        logger.info("✓ Test passed: {} threads used distinct contexts", threads);
+    }
+}
@@ -1,6 +1,7 @@
 package com.rioiam.iiq.identity;
 
 import com.rioiam.iiq.base.BaseIIQTest;
+import com.rioiam.iiq.context.BatchResult;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -8,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import sailpoint.object.Identity;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.junit.Assert.*;
@@ -21,6 +23,7 @@ import static org.junit.Assert.*;
  * - Updating identity attributes
  * - Deleting test identities
  * - Manager relationships
+ * - Bulk creation in batched transactions
  */
 public class IdentityServiceTest extends BaseIIQTest {
 
@@ -317,6 +320,30 @@ public class IdentityServiceTest extends BaseIIQTest {
         logger.info("✓ Test passed: Creation failed correctly when manager doesn't exist");
     }
 
+    @Test
+    public void testCreateTestIdentities_Batch() {
+        logger.info("========================================");
+        logger.info("TEST: Create Test Identities - Batch");
+        logger.info("========================================");
+
+        Map<String, Map<String, Object>> identities = new LinkedHashMap<>();
+        Map<String, Object> userAttributes = new HashMap<>();
+        userAttributes.put("firstname", "Batch");
+        identities.put(TEST_USER_NAME, userAttributes);
+        identities.put(TEST_MANAGER_NAME, null);
+
+        BatchResult<Identity> result = identityService.createTestIdentities(identities);
+
+        // Verify
+        assertEquals("Every identity should have an outcome", 2, result.getTotalCount());
+        assertTrue("All identities should be created", result.isAllSuccessful());
+        assertEquals("Both identities should share one commit", 1, result.getCommits());
+        assertTrue("User should exist", identityService.identityExists(TEST_USER_NAME));
+        assertTrue("Manager should exist", identityService.identityExists(TEST_MANAGER_NAME));
+
+        logger.info("✓ Test passed: {}", result);
+    }
+
     @After
     public void cleanup() {
         logger.info("Cleaning up IdentityService test data");
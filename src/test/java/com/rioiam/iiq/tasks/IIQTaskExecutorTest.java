@@ -2,6 +2,7 @@ package com.rioiam.iiq.tasks;
 
 import org.springframework.test.context.ContextConfiguration;
 import com.rioiam.iiq.config.EnvironmentConfig;
+import com.rioiam.iiq.context.AsyncContextExecutor;
 import com.rioiam.iiq.context.IIQRemoteContext;
 
 import org.junit.Test;
@@ -13,7 +14,7 @@ import sailpoint.object.TaskResult;
 
 
 @RunWith(SpringRunner.class)
-@ContextConfiguration(classes = {IIQTaskExecutor.class, IIQRemoteContext.class, EnvironmentConfig.class})
+@ContextConfiguration(classes = {IIQTaskExecutor.class, IIQRemoteContext.class, EnvironmentConfig.class, AsyncContextExecutor.class})
 public class IIQTaskExecutorTest  {
 
     @Autowired
@@ -0,0 +1,130 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.workflow.ApprovalPolicyEngine.ApprovalPolicy;
+import com.rioiam.iiq.workflow.ApprovalPolicyEngine.Decision;
+import com.rioiam.iiq.workflow.ApprovalPolicyEngine.PolicyRule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sailpoint.object.ApprovalItem;
+import sailpoint.object.Attributes;
+import sailpoint.object.Identity;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for approval policy rule matching.
+ * Runs without an IIQ server: owners and approval items are built in memory.
+ *
+ * Tests:
+ * - Level, owner and workgroup conditions
+ * - ApprovalItem property and attribute conditions, including multi-valued values
+ * - First matching rule wins; no match leaves the default decision to the caller
+ */
+public class ApprovalPolicyEngineTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalPolicyEngineTest.class);
+
+    @Test
+    public void testPolicyRule_LevelAndOwner() {
+        logger.info("========================================");
+        logger.info("TEST: Policy Rule - Level and Owner");
+        logger.info("========================================");
+
+        Identity manager = identity("jane.manager", false);
+        PolicyRule rule = PolicyRule.atLevel(2).owner("jane.manager").approve();
+
+        assertTrue("Rule should match level 2 for its owner", rule.matches(2, manager, null));
+        assertFalse("Rule should not match another level", rule.matches(1, manager, null));
+        assertFalse("Rule should not match another owner", rule.matches(2, identity("john.doe", false), null));
+        assertFalse("Rule should not match a missing owner", rule.matches(2, null, null));
+        assertTrue("Rule with no conditions should match everything", PolicyRule.always().matches(7, null, null));
+        logger.info("✓ Test passed");
+    }
+
+    @Test
+    public void testPolicyRule_Workgroup() {
+        logger.info("========================================");
+        logger.info("TEST: Policy Rule - Workgroup");
+        logger.info("========================================");
+
+        PolicyRule rule = PolicyRule.forWorkgroup("IT Security").delegate("security.lead");
+
+        assertTrue("Rule should match the workgroup", rule.matches(1, identity("IT Security", true), null));
+        assertFalse("Rule should not match an identity with the same name", rule.matches(1, identity("IT Security", false), null));
+        assertFalse("Rule should not match another workgroup", rule.matches(1, identity("Helpdesk", true), null));
+        assertEquals(Decision.DELEGATE, rule.getDecision());
+        logger.info("✓ Test passed");
+    }
+
+    @Test
+    public void testPolicyRule_ItemProperties() {
+        logger.info("========================================");
+        logger.info("TEST: Policy Rule - Item Properties");
+        logger.info("========================================");
+
+        ApprovalItem item = approvalItem("Active Directory", "memberOf", "CN=Domain Admins");
+        Attributes<String, Object> attributes = new Attributes<>();
+        attributes.put("risk", "high");
+        item.setAttributes(attributes);
+
+        assertTrue("Rule should match application and name",
+            PolicyRule.forItem("application", "Active Directory").item("name", "memberOf").matches(1, null, item));
+        assertFalse("Rule should not match another application",
+            PolicyRule.forItem("application", "LDAP").matches(1, null, item));
+        assertTrue("Rule should match an item attribute",
+            PolicyRule.forItem("risk", "high").matches(1, null, item));
+        assertFalse("Rule should not match a missing attribute",
+            PolicyRule.forItem("region", "EU").matches(1, null, item));
+        assertFalse("Item conditions should never match a work item without an approval set",
+            PolicyRule.forItem("application", "Active Directory").matches(1, null, null));
+
+        ApprovalItem multiValued = approvalItem("Active Directory", "memberOf",
+            Arrays.asList("CN=Users", "CN=Domain Admins"));
+        assertTrue("Rule should match one value of a multi-valued item",
+            PolicyRule.forItem("value", "CN=Domain Admins").matches(1, null, multiValued));
+        assertFalse("Rule should not match a value the item does not have",
+            PolicyRule.forItem("value", "CN=Auditors").matches(1, null, multiValued));
+        logger.info("✓ Test passed");
+    }
+
+    @Test
+    public void testApprovalPolicy_FirstMatchingRuleWins() {
+        logger.info("========================================");
+        logger.info("TEST: Approval Policy - First Matching Rule Wins");
+        logger.info("========================================");
+
+        PolicyRule rejectAdmins = PolicyRule.forItem("value", "CN=Domain Admins").reject("SoD");
+        PolicyRule approveLevelOne = PolicyRule.atLevel(1).approve();
+        ApprovalPolicy policy = ApprovalPolicy.of(rejectAdmins, approveLevelOne).otherwise(Decision.APPROVE);
+
+        Identity manager = identity("jane.manager", false);
+        ApprovalItem admins = approvalItem("Active Directory", "memberOf", "CN=Domain Admins");
+        ApprovalItem users = approvalItem("Active Directory", "memberOf", "CN=Users");
+
+        assertSame("Earlier rule should win when both match", rejectAdmins, policy.match(1, manager, admins));
+        assertSame("Later rule should match when the earlier one does not", approveLevelOne, policy.match(1, manager, users));
+        assertNull("No rule should match level 2 users", policy.match(2, manager, users));
+        assertEquals("Rules should be kept in order", Arrays.asList(rejectAdmins, approveLevelOne), policy.getRules());
+        logger.info("✓ Test passed: {}", policy);
+    }
+
+    // ===== Helper Methods =====
+
+    private Identity identity(String name, boolean workgroup) {
+        Identity identity = new Identity();
+        identity.setName(name);
+        identity.setWorkgroup(workgroup);
+        return identity;
+    }
+
+    private ApprovalItem approvalItem(String application, String name, Object value) {
+        ApprovalItem item = new ApprovalItem();
+        item.setApplication(application);
+        item.setName(name);
+        item.setValue(value);
+        return item;
+    }
+}
@@ -0,0 +1,176 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.config.EnvironmentConfig;
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.workflow.WorkItemHandler.BatchCompletionResult;
+import com.rioiam.iiq.workflow.WorkItemHandler.WorkItemDecision;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import sailpoint.api.SailPointContext;
+import sailpoint.api.Workflower;
+import sailpoint.object.WorkItem;
+import sailpoint.object.WorkflowCase;
+import sailpoint.tools.GeneralException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for chunked work item completion.
+ * Runs without an IIQ server: the context, work items and Workflower are mocks.
+ *
+ * Tests:
+ * - Each chunk is decided and advanced in one transaction
+ * - A failing advance keeps the decision but reports the item
+ * - Rollback mode reports items as rolled back, never decided or advanced
+ * - A failing chunk transaction reports all of its items
+ */
+public class WorkItemBatchCompletionTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkItemBatchCompletionTest.class);
+
+    private SailPointContext context;
+    private Workflower workflower;
+    private EnvironmentConfig environmentConfig;
+    private WorkItemHandler handler;
+    private final AtomicInteger transactions = new AtomicInteger();
+    private volatile boolean failTransactions;
+
+    @Before
+    public void setUp() throws Exception {
+        context = mock(SailPointContext.class);
+        workflower = mock(Workflower.class);
+        environmentConfig = mock(EnvironmentConfig.class);
+
+        IIQRemoteContext remoteContext = new IIQRemoteContext() {
+            @Override
+            public <T> T execute(ContextOperation<T> operation) throws GeneralException {
+                transactions.incrementAndGet();
+                if (failTransactions) {
+                    throw new GeneralException("Operation failed: connection reset");
+                }
+                return operation.execute(context);
+            }
+        };
+
+        handler = new WorkItemHandler() {
+            @Override
+            Workflower newWorkflower(SailPointContext ctx) {
+                return workflower;
+            }
+        };
+        ReflectionTestUtils.setField(handler, "remoteContext", remoteContext);
+        ReflectionTestUtils.setField(handler, "environmentConfig", environmentConfig);
+        ReflectionTestUtils.setField(handler, "workItemBatchSize", 2);
+
+        stubWorkItem("wi-1", WorkItem.Type.Approval);
+        stubWorkItem("wi-2", WorkItem.Type.Approval);
+        stubWorkItem("wi-3", WorkItem.Type.Form);
+    }
+
+    @Test
+    public void testCompleteWorkItems_DecidesAndAdvancesPerChunk() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Complete Work Items - Decides and Advances per Chunk");
+        logger.info("========================================");
+
+        BatchCompletionResult result = handler.completeWorkItems(Arrays.asList(
+            WorkItemDecision.approve("wi-1", "OK"),
+            WorkItemDecision.reject("wi-2", "No"),
+            WorkItemDecision.completeForm("wi-3", Collections.singletonMap("action", "activate")),
+            WorkItemDecision.approve("wi-missing", "OK")));
+
+        assertEquals("One transaction per chunk of 2", 2, transactions.get());
+        assertEquals(Arrays.asList("wi-1", "wi-2", "wi-3"), Arrays.asList(result.getDecided().toArray()));
+        assertEquals(result.getDecided(), result.getAdvanced());
+        assertEquals("Missing item should be reported", "Work item not found", result.getErrors().get("wi-missing"));
+        assertTrue(result.isSuccess("wi-1"));
+        assertFalse(result.isSuccess("wi-missing"));
+        verify(workflower, times(3)).process(any(WorkItem.class), eq(true));
+        logger.info("✓ Test passed: {}", result);
+    }
+
+    @Test
+    public void testCompleteWorkItems_FailedAdvanceKeepsDecision() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Complete Work Items - Failed Advance Keeps Decision");
+        logger.info("========================================");
+
+        WorkItem second = context.getObjectById(WorkItem.class, "wi-2");
+        doThrow(new GeneralException("Step failed")).when(workflower).process(eq(second), anyBoolean());
+
+        BatchCompletionResult result = handler.completeWorkItems(Arrays.asList(
+            WorkItemDecision.approve("wi-1", "OK"),
+            WorkItemDecision.approve("wi-2", "OK")));
+
+        assertEquals(1, transactions.get());
+        assertTrue("Decision should still be committed", result.getDecided().contains("wi-2"));
+        assertFalse("Workflow should not count as advanced", result.getAdvanced().contains("wi-2"));
+        assertTrue(result.getErrors().get("wi-2").startsWith("Saved but not advanced"));
+        assertTrue(result.isSuccess("wi-1"));
+        logger.info("✓ Test passed: {}", result);
+    }
+
+    @Test
+    public void testCompleteWorkItems_RollbackModeDecidesNothing() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Complete Work Items - Rollback Mode Decides Nothing");
+        logger.info("========================================");
+
+        when(environmentConfig.shouldRollbackTransactions()).thenReturn(true);
+
+        BatchCompletionResult result = handler.completeWorkItems(Arrays.asList(
+            WorkItemDecision.approve("wi-1", "OK"),
+            WorkItemDecision.reject("wi-2", "No")));
+
+        assertTrue("Nothing is committed in rollback mode", result.getDecided().isEmpty());
+        assertTrue(result.getAdvanced().isEmpty());
+        assertEquals(2, result.getRolledBack().size());
+        verify(workflower, never()).process(any(WorkItem.class), anyBoolean());
+        logger.info("✓ Test passed: {}", result);
+    }
+
+    @Test
+    public void testCompleteWorkItems_FailedChunkReportsAllItems() {
+        logger.info("========================================");
+        logger.info("TEST: Complete Work Items - Failed Chunk Reports All Items");
+        logger.info("========================================");
+
+        failTransactions = true;
+
+        BatchCompletionResult result = handler.completeWorkItems(Arrays.asList(
+            WorkItemDecision.approve("wi-1", "OK"),
+            WorkItemDecision.approve("wi-2", "OK"),
+            WorkItemDecision.approve("wi-3", "OK")));
+
+        assertEquals(2, transactions.get());
+        assertTrue(result.getDecided().isEmpty());
+        assertEquals(3, result.getErrors().size());
+        logger.info("✓ Test passed: {}", result);
+    }
+
+    // ===== Helper Methods =====
+
+    private void stubWorkItem(String id, WorkItem.Type type) throws GeneralException {
+        WorkItem workItem = mock(WorkItem.class);
+        when(workItem.getId()).thenReturn(id);
+        when(workItem.getType()).thenReturn(type);
+        when(workItem.getWorkflowCase()).thenReturn(mock(WorkflowCase.class));
+        when(context.getObjectById(WorkItem.class, id)).thenReturn(workItem);
+    }
+}
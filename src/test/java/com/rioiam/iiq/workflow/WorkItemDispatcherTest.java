@@ -0,0 +1,145 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.SailPointObject;
+import sailpoint.object.WorkItem;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for the shared work item dispatcher.
+ * Runs without an IIQ server: the remote context returns stubbed work item rows.
+ *
+ * Tests:
+ * - A registration only completes with a work item of the requested type
+ * - Excluded (already handled) work items are skipped
+ * - Cases are matched by name as well as by ID
+ * - Cancelled registrations are dropped
+ */
+public class WorkItemDispatcherTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkItemDispatcherTest.class);
+
+    private static final String CASE_ID = "case-1";
+    private static final String CASE_NAME = "spadmin - 1";
+
+    private WorkItemDispatcher dispatcher;
+    private final SailPointContext backgroundContext = mock(SailPointContext.class);
+    private final List<ProjectionRow> pendingItems = new CopyOnWriteArrayList<>();
+    private volatile boolean wrongContext;
+
+    @Before
+    public void setUp() {
+        IIQRemoteContext remoteContext = new IIQRemoteContext() {
+            @Override
+            public <T> T withBackgroundContext(ContextOperation<T> operation) throws GeneralException {
+                return operation.execute(backgroundContext);
+            }
+
+            @Override
+            public List<ProjectionRow> project(SailPointContext ctx, Class<? extends SailPointObject> cls,
+                                               QueryOptions options, String... properties) {
+                if (ctx != backgroundContext) {
+                    wrongContext = true;
+                }
+                return new ArrayList<>(pendingItems);
+            }
+        };
+
+        dispatcher = new WorkItemDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "remoteContext", remoteContext);
+        ReflectionTestUtils.setField(dispatcher, "initialDelayMillis", 1L);
+        ReflectionTestUtils.setField(dispatcher, "maxDelayMillis", 20L);
+        ReflectionTestUtils.setField(dispatcher, "multiplier", 2.0);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 500);
+    }
+
+    @After
+    public void tearDown() {
+        dispatcher.shutdown();
+        assertFalse("Queries should run on the background context they were given", wrongContext);
+    }
+
+    @Test
+    public void testRegister_WaitsForRequestedType() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Register - Waits for Requested Type");
+        logger.info("========================================");
+
+        pendingItems.add(workItemRow("wi-form", WorkItem.Type.Form));
+        CompletableFuture<String> approval = dispatcher.register(CASE_ID, WorkItem.Type.Approval);
+        CompletableFuture<String> any = dispatcher.register(CASE_ID);
+
+        assertEquals("Untyped registration should take the form", "wi-form", any.get(5, TimeUnit.SECONDS));
+        assertFalse("Approval registration should ignore the form", approval.isDone());
+
+        pendingItems.add(workItemRow("wi-approval", WorkItem.Type.Approval));
+        assertEquals("wi-approval", approval.get(5, TimeUnit.SECONDS));
+        assertEquals("Nothing should be left waiting", 0, dispatcher.getOutstandingCount());
+        logger.info("✓ Test passed: {}", dispatcher.getStatistics());
+    }
+
+    @Test
+    public void testRegister_SkipsExcludedItems() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Register - Skips Excluded Items");
+        logger.info("========================================");
+
+        pendingItems.add(workItemRow("wi-1", WorkItem.Type.Approval));
+        pendingItems.add(workItemRow("wi-2", WorkItem.Type.Approval));
+
+        CompletableFuture<String> next = dispatcher.register(CASE_NAME, WorkItem.Type.Approval,
+            Collections.singleton("wi-1"));
+
+        assertEquals("Handled item should be skipped, matching the case by name", "wi-2",
+            next.get(5, TimeUnit.SECONDS));
+        logger.info("✓ Test passed");
+    }
+
+    @Test
+    public void testRegister_CancelledRegistrationIsDropped() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Register - Cancelled Registration Is Dropped");
+        logger.info("========================================");
+
+        CompletableFuture<String> first = dispatcher.register(CASE_ID, WorkItem.Type.Approval);
+        CompletableFuture<String> second = dispatcher.register(CASE_ID, WorkItem.Type.Approval);
+        first.cancel(false);
+
+        pendingItems.add(workItemRow("wi-1", WorkItem.Type.Approval));
+        assertEquals("wi-1", second.get(5, TimeUnit.SECONDS));
+        assertTrue(first.isCancelled());
+        assertEquals("Cancelled registration should be dropped", 0, dispatcher.getOutstandingCount());
+        logger.info("✓ Test passed");
+    }
+
+    // ===== Helper Methods =====
+
+    private ProjectionRow workItemRow(String id, WorkItem.Type type) {
+        ProjectionRow row = mock(ProjectionRow.class);
+        when(row.getString("id")).thenReturn(id);
+        when(row.getString("workflowCase.id")).thenReturn(CASE_ID);
+        when(row.getString("workflowCase.name")).thenReturn(CASE_NAME);
+        when(row.getEnum("type", WorkItem.Type.class)).thenReturn(type);
+        return row;
+    }
+}
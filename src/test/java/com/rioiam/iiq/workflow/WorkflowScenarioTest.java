@@ -0,0 +1,114 @@
+package com.rioiam.iiq.workflow;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for saving and loading recorded workflow scenarios.
+ * Runs without an IIQ server.
+ *
+ * Tests:
+ * - JSON round trip keeps launch details, steps and plain variables
+ * - YAML round trip restores Locale, TimeZone and Date variables
+ */
+public class WorkflowScenarioTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowScenarioTest.class);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSaveLoad_Json() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Save/Load - JSON");
+        logger.info("========================================");
+
+        WorkflowScenario scenario = recordedScenario();
+        File file = folder.newFile("scenarios.json");
+        WorkflowScenario.save(Collections.singletonList(scenario), file);
+
+        List<WorkflowScenario> loaded = WorkflowScenario.load(file);
+        assertEquals("One scenario should be loaded", 1, loaded.size());
+        assertScenario(scenario, loaded.get(0));
+        logger.info("✓ Test passed: {}", loaded.get(0));
+    }
+
+    @Test
+    public void testSaveLoad_Yaml() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Save/Load - YAML");
+        logger.info("========================================");
+
+        WorkflowScenario scenario = recordedScenario();
+        File file = folder.newFile("scenarios.yaml");
+        WorkflowScenario.save(Arrays.asList(scenario, recordedScenario()), file);
+
+        List<WorkflowScenario> loaded = WorkflowScenario.load(file);
+        assertEquals("Both scenarios should be loaded", 2, loaded.size());
+        assertScenario(scenario, loaded.get(0));
+        logger.info("✓ Test passed: {}", loaded.get(0));
+    }
+
+    // ===== Helper Methods =====
+
+    private WorkflowScenario recordedScenario() {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("identityName", "john.doe");
+        variables.put("count", 3);
+        variables.put("locale", Locale.forLanguageTag("en-GB"));
+        variables.put("timeZone", TimeZone.getTimeZone("Europe/London"));
+        variables.put("startDate", new Date(1760000000000L));
+
+        WorkflowScenario scenario = new WorkflowScenario("activation", "VF-Core-ActivateDeactivateIdentity",
+            "spadmin", variables);
+
+        Map<String, Object> formData = new LinkedHashMap<>();
+        formData.put("action", "activate");
+        scenario.getSteps().add(new WorkflowScenario.Step(WorkflowScenario.Action.FORM, formData, null, 120));
+        scenario.getSteps().add(new WorkflowScenario.Step(WorkflowScenario.Action.APPROVE, null, "Approved", 450));
+        scenario.getSteps().add(new WorkflowScenario.Step(WorkflowScenario.Action.COMPLETE, null, null, 900));
+        return scenario;
+    }
+
+    private void assertScenario(WorkflowScenario expected, WorkflowScenario actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getWorkflowName(), actual.getWorkflowName());
+        assertEquals(expected.getLauncher(), actual.getLauncher());
+
+        Map<String, Object> variables = actual.toLaunchVariables();
+        assertEquals("john.doe", variables.get("identityName"));
+        assertEquals(3, ((Number) variables.get("count")).intValue());
+        assertEquals("Locale should be restored", Locale.forLanguageTag("en-GB"), variables.get("locale"));
+        assertEquals("TimeZone should be restored", TimeZone.getTimeZone("Europe/London"), variables.get("timeZone"));
+        assertEquals("Date should be restored", new Date(1760000000000L), variables.get("startDate"));
+        assertEquals("Launch variables should match the recorded ones", expected.toLaunchVariables().keySet(),
+            variables.keySet());
+
+        assertEquals("All steps should be kept", 3, actual.getSteps().size());
+        WorkflowScenario.Step form = actual.getSteps().get(0);
+        assertEquals(WorkflowScenario.Action.FORM, form.getAction());
+        assertEquals("activate", form.getData().get("action"));
+        assertEquals(120, form.getOffsetMillis());
+        WorkflowScenario.Step approve = actual.getSteps().get(1);
+        assertEquals(WorkflowScenario.Action.APPROVE, approve.getAction());
+        assertEquals("Approved", approve.getComments());
+        assertEquals(WorkflowScenario.Action.COMPLETE, actual.getSteps().get(2).getAction());
+        assertEquals(900, actual.getSteps().get(2).getOffsetMillis());
+    }
+}
@@ -0,0 +1,128 @@
+package com.rioiam.iiq.workflow;
+
+import com.rioiam.iiq.context.IIQRemoteContext;
+import com.rioiam.iiq.context.ProjectionRow;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.QueryOptions;
+import sailpoint.object.SailPointObject;
+import sailpoint.object.TaskResult;
+import sailpoint.tools.GeneralException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for the shared workflow status poller.
+ * Runs without an IIQ server: the remote context returns a stubbed case row.
+ *
+ * Tests:
+ * - Cancelling one caller's wait does not affect other callers on the same case
+ * - A case is dropped from polling once its last waiter gives up
+ */
+public class WorkflowStatusPollerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowStatusPollerTest.class);
+
+    private static final String CASE_ID = "case-1";
+
+    private WorkflowStatusPoller poller;
+    private final SailPointContext backgroundContext = mock(SailPointContext.class);
+    private volatile TaskResult.CompletionStatus caseStatus;
+    private volatile boolean wrongContext;
+
+    @Before
+    public void setUp() {
+        IIQRemoteContext remoteContext = new IIQRemoteContext() {
+            @Override
+            public <T> T withBackgroundContext(ContextOperation<T> operation) throws GeneralException {
+                return operation.execute(backgroundContext);
+            }
+
+            @Override
+            public List<ProjectionRow> project(SailPointContext ctx, Class<? extends SailPointObject> cls,
+                                               QueryOptions options, String... properties) {
+                if (ctx != backgroundContext) {
+                    wrongContext = true;
+                }
+                ProjectionRow row = mock(ProjectionRow.class);
+                when(row.getString("id")).thenReturn(CASE_ID);
+                when(row.getString("name")).thenReturn("Case 1");
+                when(row.getEnum("completionStatus", TaskResult.CompletionStatus.class)).thenReturn(caseStatus);
+                return Collections.singletonList(row);
+            }
+        };
+
+        poller = new WorkflowStatusPoller();
+        ReflectionTestUtils.setField(poller, "remoteContext", remoteContext);
+        ReflectionTestUtils.setField(poller, "initialDelayMillis", 1L);
+        ReflectionTestUtils.setField(poller, "maxDelayMillis", 20L);
+        ReflectionTestUtils.setField(poller, "multiplier", 2.0);
+        ReflectionTestUtils.setField(poller, "batchSize", 500);
+    }
+
+    @After
+    public void tearDown() {
+        poller.shutdown();
+        assertFalse("Polls should run on the background context they were given", wrongContext);
+    }
+
+    @Test
+    public void testRegister_CancelledWaiterDoesNotAffectOthers() throws Exception {
+        logger.info("========================================");
+        logger.info("TEST: Register - Cancelled Waiter Does Not Affect Others");
+        logger.info("========================================");
+
+        CompletableFuture<WorkflowStatusPoller.CaseStatus> first = poller.register(CASE_ID);
+        CompletableFuture<WorkflowStatusPoller.CaseStatus> second = poller.register(CASE_ID);
+        assertNotSame("Each caller should get its own future", first, second);
+
+        first.cancel(false);
+        assertTrue("First waiter should be cancelled", first.isCancelled());
+        assertFalse("Second waiter should still be waiting", second.isDone());
+        assertEquals("Case should still be polled for the second waiter", 1, poller.getOutstandingCount());
+
+        caseStatus = TaskResult.CompletionStatus.Success;
+        WorkflowStatusPoller.CaseStatus status = second.get(5, TimeUnit.SECONDS);
+
+        assertTrue("Case should be found", status.isFound());
+        assertEquals("Second waiter should see the final status", TaskResult.CompletionStatus.Success,
+            status.getCompletionStatus());
+        assertEquals("Nothing should be left to poll", 0, poller.getOutstandingCount());
+        logger.info("✓ Test passed: {}", status);
+    }
+
+    @Test
+    public void testRegister_LastWaiterGivingUpStopsPolling() {
+        logger.info("========================================");
+        logger.info("TEST: Register - Last Waiter Giving Up Stops Polling");
+        logger.info("========================================");
+
+        CompletableFuture<WorkflowStatusPoller.CaseStatus> first = poller.register(CASE_ID);
+        CompletableFuture<WorkflowStatusPoller.CaseStatus> second = poller.register(CASE_ID);
+
+        first.cancel(false);
+        assertEquals("Case should still be polled while a waiter remains", 1, poller.getOutstandingCount());
+
+        second.completeExceptionally(new TimeoutException());
+        assertEquals("Case should be dropped once no caller waits for it", 0, poller.getOutstandingCount());
+
+        // A new caller starts a fresh registration
+        CompletableFuture<WorkflowStatusPoller.CaseStatus> third = poller.register(CASE_ID);
+        assertFalse("New waiter should be waiting", third.isDone());
+        assertEquals("Case should be polled again", 1, poller.getOutstandingCount());
+        logger.info("✓ Test passed");
+    }
+}
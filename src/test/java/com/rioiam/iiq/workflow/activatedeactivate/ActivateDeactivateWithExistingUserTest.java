@@ -271,7 +271,7 @@ public class ActivateDeactivateWithExistingUserTest extends BaseWorkflowTest {
      * 2. Run: mvn test -Dtest=ActivateDeactivateWithExistingUserTest#testActivateExistingUser_StepByStep
      */
     @Test
-    public void testActivateExistingUser_StepByStep() throws InterruptedException {
+    public void testActivateExistingUser_StepByStep() {
         logger.info("========================================");
         logger.info("TEST: Activate Existing User (Step-by-Step Approvals)");
         logger.info("========================================");
@@ -313,7 +313,6 @@ public class ActivateDeactivateWithExistingUserTest extends BaseWorkflowTest {
             assertTrue("Level 1 approval should succeed", level1.isSuccess());
             logger.info("✓ APPROVAL LEVEL 1 PASSED: Approved by {}", level1.getApproverName());
             totalApprovals++;
-            Thread.sleep(2000);
 
             // Approval Level 2
             WorkItemHandler.ApprovalResult level2 = workItemHandler.approveSingleLevel(workflowCaseId, 2, 30);
@@ -321,7 +320,6 @@ public class ActivateDeactivateWithExistingUserTest extends BaseWorkflowTest {
                 assertTrue("Level 2 approval should succeed", level2.isSuccess());
                 logger.info("✓ APPROVAL LEVEL 2 PASSED: Approved by {}", level2.getApproverName());
                 totalApprovals++;
-                Thread.sleep(2000);
 
                 // Approval Level 3 (if exists)
                 WorkItemHandler.ApprovalResult level3 = workItemHandler.approveSingleLevel(workflowCaseId, 3, 30);
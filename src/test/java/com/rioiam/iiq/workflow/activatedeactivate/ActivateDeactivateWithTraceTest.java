@@ -1,9 +1,12 @@
 package com.rioiam.iiq.workflow.activatedeactivate;
 
 import com.rioiam.iiq.base.BaseWorkflowTest;
+import com.rioiam.iiq.workflow.WorkflowTimeline;
+import com.rioiam.iiq.workflow.WorkflowTracer;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import sailpoint.api.SailPointContext;
 import sailpoint.object.Identity;
 import sailpoint.object.WorkItem;
@@ -34,6 +37,9 @@ public class ActivateDeactivateWithTraceTest extends BaseWorkflowTest {
         "944D25E7F42C7B46"
     );
 
+    @Autowired
+    private WorkflowTracer workflowTracer;
+
     @Test
     public void testActivateWithFullTrace() throws InterruptedException {
         logger.info("========================================");
@@ -224,12 +230,18 @@ public class ActivateDeactivateWithTraceTest extends BaseWorkflowTest {
         vars.put("identityName", LAUNCHER_USER);
         vars.put("userLocale", Locale.ENGLISH);
         vars.put("clientTimeZone", TimeZone.getDefault());
-        vars.put("trace", true);
 
-        String caseId = workflowExecutor.launchWorkflow(WORKFLOW_NAME, LAUNCHER_USER, vars);
+        String caseId = workflowExecutor.launchWorkflow(WORKFLOW_NAME, LAUNCHER_USER, vars, true);
         assertNotNull("Workflow should launch", caseId);
 
         logger.info("✓ Workflow launched: {}", caseId);
+
+        WorkflowTimeline timeline = workflowTracer.buildTimeline(caseId);
+        assertNotNull("Timeline should be built", timeline);
+        for (WorkflowTimeline.Event event : timeline.getEvents()) {
+            logger.info("  {}", event);
+        }
+        workflowTracer.release(caseId);
         logger.info("");
         logger.info("NOW CHECK IIQ LOGS:");
         logger.info("  tail -100 /Users/dineshjadhav/Sailpoint/iiq85/tomcat/logs/sailpoint.log | grep -A 5 -B 5 '{}'", caseId);
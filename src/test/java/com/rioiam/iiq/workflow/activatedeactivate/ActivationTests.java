@@ -271,13 +271,6 @@ public class ActivationTests extends BaseWorkflowTest {
             assertNotNull("Level 1 approver should be identified", level1.getApproverName());
             logger.info("✓ APPROVAL LEVEL 1 PASSED: Approved by {}", level1.getApproverName());
             totalApprovalsProcessed++;
-
-            // Wait for workflow to process
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
         } else {
             logger.info("No approval required at level 1 - approval not configured");
         }
@@ -290,13 +283,6 @@ public class ActivationTests extends BaseWorkflowTest {
                 assertNotNull("Level 2 approver should be identified", level2.getApproverName());
                 logger.info("✓ APPROVAL LEVEL 2 PASSED: Approved by {}", level2.getApproverName());
                 totalApprovalsProcessed++;
-
-                // Wait for workflow to process
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
             } else {
                 logger.info("No approval required at level 2");
             }